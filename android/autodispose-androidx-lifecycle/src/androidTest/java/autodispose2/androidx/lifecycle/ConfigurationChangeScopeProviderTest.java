@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.androidx.lifecycle;
+
+import static autodispose2.AutoDispose.autoDisposable;
+import static com.google.common.truth.Truth.assertThat;
+
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.testing.TestLifecycleOwner;
+import androidx.test.annotation.UiThreadTest;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(AndroidJUnit4.class)
+public final class ConfigurationChangeScopeProviderTest {
+
+  private final TestScheduler scheduler = new TestScheduler();
+
+  @Before
+  @After
+  public void resetScopes() {
+    ConfigurationChangeScopeProvider.reset();
+  }
+
+  @Test
+  @UiThreadTest
+  public void configurationChange_handsScopeToRecreatedOwner() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    TestLifecycleOwner first = new TestLifecycleOwner(Lifecycle.State.RESUMED);
+    ConfigurationChangeScopeProvider provider = scopeFor(first, true, "handOff");
+    TestObserver<Integer> o = subject.to(autoDisposable(provider)).test();
+
+    first.setCurrentState(Lifecycle.State.DESTROYED);
+    scheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+    TestLifecycleOwner second = new TestLifecycleOwner(Lifecycle.State.RESUMED);
+    assertThat(scopeFor(second, false, "handOff")).isSameInstanceAs(provider);
+
+    // The grace window passing no longer ends it
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    subject.onNext(1);
+    o.assertValue(1);
+
+    second.setCurrentState(Lifecycle.State.DESTROYED);
+    assertThat(subject.hasObservers()).isFalse();
+  }
+
+  @Test
+  @UiThreadTest
+  public void configurationChange_endsAfterGraceWindow() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    TestLifecycleOwner owner = new TestLifecycleOwner(Lifecycle.State.RESUMED);
+    subject.to(autoDisposable(scopeFor(owner, true, "unclaimed"))).test();
+
+    owner.setCurrentState(Lifecycle.State.DESTROYED);
+    assertThat(subject.hasObservers()).isTrue();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    assertThat(subject.hasObservers()).isFalse();
+  }
+
+  @Test
+  @UiThreadTest
+  public void destroy_withoutConfigurationChange_endsImmediately() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    TestLifecycleOwner owner = new TestLifecycleOwner(Lifecycle.State.RESUMED);
+    ConfigurationChangeScopeProvider provider = scopeFor(owner, false, "finished");
+    subject.to(autoDisposable(provider)).test();
+
+    owner.setCurrentState(Lifecycle.State.DESTROYED);
+    assertThat(subject.hasObservers()).isFalse();
+
+    // A later owner gets a new scope
+    TestLifecycleOwner next = new TestLifecycleOwner(Lifecycle.State.RESUMED);
+    assertThat(scopeFor(next, false, "finished")).isNotSameInstanceAs(provider);
+    next.setCurrentState(Lifecycle.State.DESTROYED);
+  }
+
+  private ConfigurationChangeScopeProvider scopeFor(
+      TestLifecycleOwner owner, boolean changingConfigurations, String key) {
+    return ConfigurationChangeScopeProvider.from(
+        owner, () -> changingConfigurations, key, 1, TimeUnit.SECONDS, scheduler);
+  }
+}
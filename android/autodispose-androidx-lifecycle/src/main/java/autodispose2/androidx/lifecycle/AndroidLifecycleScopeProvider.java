@@ -19,6 +19,7 @@ import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
 import autodispose2.OutsideScopeException;
 import autodispose2.lifecycle.CorrespondingEventsFunction;
+import autodispose2.lifecycle.EnumCorrespondingEventsFunction;
 import autodispose2.lifecycle.LifecycleEndedException;
 import autodispose2.lifecycle.LifecycleScopeProvider;
 import autodispose2.lifecycle.LifecycleScopes;
@@ -39,22 +40,25 @@ public final class AndroidLifecycleScopeProvider
     implements LifecycleScopeProvider<Lifecycle.Event> {
 
   private static final CorrespondingEventsFunction<Lifecycle.Event> DEFAULT_CORRESPONDING_EVENTS =
-      lastEvent -> {
-        switch (lastEvent) {
-          case ON_CREATE:
-            return Lifecycle.Event.ON_DESTROY;
-          case ON_START:
-            return Lifecycle.Event.ON_STOP;
-          case ON_RESUME:
-            return Lifecycle.Event.ON_PAUSE;
-          case ON_PAUSE:
-            return Lifecycle.Event.ON_STOP;
-          case ON_STOP:
-          case ON_DESTROY:
-          default:
-            throw new LifecycleEndedException("Lifecycle has ended! Last event was " + lastEvent);
-        }
-      };
+      EnumCorrespondingEventsFunction.from(
+          Lifecycle.Event.class,
+          lastEvent -> {
+            switch (lastEvent) {
+              case ON_CREATE:
+                return Lifecycle.Event.ON_DESTROY;
+              case ON_START:
+                return Lifecycle.Event.ON_STOP;
+              case ON_RESUME:
+                return Lifecycle.Event.ON_PAUSE;
+              case ON_PAUSE:
+                return Lifecycle.Event.ON_STOP;
+              case ON_STOP:
+              case ON_DESTROY:
+              default:
+                throw new LifecycleEndedException(
+                    "Lifecycle has ended! Last event was " + lastEvent);
+            }
+          });
 
   private final CorrespondingEventsFunction<Lifecycle.Event> boundaryResolver;
 
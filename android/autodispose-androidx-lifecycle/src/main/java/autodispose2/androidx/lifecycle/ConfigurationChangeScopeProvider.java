@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.androidx.lifecycle;
+
+import static autodispose2.android.internal.AutoDisposeAndroidUtil.isMainThread;
+
+import android.app.Activity;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+import autodispose2.ScopeProvider;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ScopeProvider} for an {@link Activity} that survives configuration changes such as
+ * rotation.
+ *
+ * <p>An {@link AndroidLifecycleScopeProvider} ends with {@code ON_DESTROY} even when the Activity
+ * is only being recreated, so every request bound to it is torn down and then repeated by the new
+ * instance. This scope instead waits for a grace window if {@link
+ * Activity#isChangingConfigurations()} is true at that point. The recreated Activity claims the
+ * same scope by asking for the same {@code key}, and subscriptions bound to it keep running
+ * throughout. The scope ends once no Activity holds it anymore, either when the last one is
+ * destroyed for good or when the grace window passes without a new one claiming it.
+ *
+ * <p>Since the recreated Activity has new views, this scope is meant for the upstream work rather
+ * than for UI subscriptions, such as a stream kept in a retained holder with {@link
+ * autodispose2.WithinScope#cacheWithin(ScopeProvider)}. Views should still subscribe with a
+ * regular {@link AndroidLifecycleScopeProvider}.
+ *
+ * <pre><code>
+ *   ScopeProvider retained = ConfigurationChangeScopeProvider.from(this, "profile", 5, SECONDS);
+ * </code></pre>
+ *
+ * <p>Keys should be unique per screen, and providers can only be created on the main thread.
+ */
+public final class ConfigurationChangeScopeProvider implements ScopeProvider {
+
+  /** Live scopes by key. Only accessed on the main thread. */
+  private static final Map<String, ConfigurationChangeScopeProvider> SCOPES = new HashMap<>();
+
+  private final String key;
+  private final long graceWindow;
+  private final TimeUnit unit;
+  private final Scheduler scheduler;
+  private final CompletableSubject scope = CompletableSubject.create();
+  private int owners;
+  @Nullable private Disposable pendingEnd;
+
+  /**
+   * Returns the scope for {@code key}, claiming the one a recreated instance of {@code activity}
+   * left behind if it's still within its grace window.
+   *
+   * <p>The grace window is set by the call that creates the scope. Calls that claim an existing
+   * scope get it with its original grace window, and their {@code graceWindow} and {@code unit}
+   * are ignored.
+   *
+   * @param activity the activity to scope for.
+   * @param key identifies the scope across instances of {@code activity}.
+   * @param graceWindow how long to wait for a recreated instance before ending the scope.
+   * @param unit the unit of {@code graceWindow}.
+   * @param <A> the activity type
+   * @return a {@link ConfigurationChangeScopeProvider} shared with previous instances.
+   * @throws IllegalStateException if not called on the main thread.
+   */
+  public static <A extends Activity & LifecycleOwner> ConfigurationChangeScopeProvider from(
+      A activity, String key, long graceWindow, TimeUnit unit) {
+    return from(
+        activity,
+        activity::isChangingConfigurations,
+        key,
+        graceWindow,
+        unit,
+        AndroidSchedulers.mainThread());
+  }
+
+  static ConfigurationChangeScopeProvider from(
+      LifecycleOwner owner,
+      ConfigurationChangeCheck isChangingConfigurations,
+      String key,
+      long graceWindow,
+      TimeUnit unit,
+      Scheduler scheduler) {
+    if (!isMainThread()) {
+      throw new IllegalStateException("Scopes can only be created on the main thread!");
+    }
+    ConfigurationChangeScopeProvider provider = SCOPES.get(key);
+    if (provider == null) {
+      provider = new ConfigurationChangeScopeProvider(key, graceWindow, unit, scheduler);
+      SCOPES.put(key, provider);
+    }
+    provider.claim(owner, isChangingConfigurations);
+    return provider;
+  }
+
+  private ConfigurationChangeScopeProvider(
+      String key, long graceWindow, TimeUnit unit, Scheduler scheduler) {
+    this.key = key;
+    this.graceWindow = graceWindow;
+    this.unit = unit;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public CompletableSource requestScope() {
+    return scope;
+  }
+
+  private void claim(LifecycleOwner owner, ConfigurationChangeCheck isChangingConfigurations) {
+    Lifecycle lifecycle = owner.getLifecycle();
+    if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+      if (owners == 0 && pendingEnd == null) {
+        end();
+      }
+      return;
+    }
+    owners++;
+    if (pendingEnd != null) {
+      pendingEnd.dispose();
+      pendingEnd = null;
+    }
+    lifecycle.addObserver(
+        new LifecycleEventObserver() {
+          @Override
+          public void onStateChanged(LifecycleOwner source, Lifecycle.Event event) {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+              lifecycle.removeObserver(this);
+              release(isChangingConfigurations);
+            }
+          }
+        });
+  }
+
+  private void release(ConfigurationChangeCheck isChangingConfigurations) {
+    if (--owners > 0) {
+      return;
+    }
+    if (isChangingConfigurations.isChangingConfigurations()) {
+      pendingEnd = scheduler.scheduleDirect(this::end, graceWindow, unit);
+    } else {
+      end();
+    }
+  }
+
+  private void end() {
+    // Runs on the main thread, as does claiming, so there's no race with a late claim.
+    if (owners == 0) {
+      SCOPES.remove(key);
+      pendingEnd = null;
+      scope.onComplete();
+    }
+  }
+
+  /** Forgets every live scope without ending it, so that tests don't share them. */
+  static void reset() {
+    SCOPES.clear();
+  }
+
+  /** Abstracts {@link Activity#isChangingConfigurations()} for tests. */
+  interface ConfigurationChangeCheck {
+    boolean isChangingConfigurations();
+  }
+}
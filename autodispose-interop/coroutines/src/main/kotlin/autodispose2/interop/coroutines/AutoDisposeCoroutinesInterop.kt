@@ -83,6 +83,17 @@ public fun CoroutineScope.asCompletable(): Completable {
 }
 
 private fun CoroutineScope.asUndeferredCompletable(): Completable {
+  val job = coroutineContext[Job]
+  if (job != null && job.isCompleted) {
+    // Completion handlers run right away on a completed job. Handing back Completable.complete()
+    // for a finished or cancelled one lets AutoDispose skip subscribing upstream entirely.
+    var cause: Throwable? = null
+    job.invokeOnCompletion { cause = it }
+    val completionCause = cause
+    if (completionCause == null || completionCause is CancellationException) {
+      return Completable.complete()
+    }
+  }
   return Completable.create { emitter ->
     val job =
       coroutineContext[Job]
@@ -236,6 +236,18 @@ class AutoDisposeCoroutinesInteropTest {
     observer.assertComplete()
   }
 
+  @Test
+  fun cancelledScope_neverSubscribesUpstream() {
+    val job = Job()
+    val scope = CoroutineScope(job)
+    scope.cancel()
+    var subscribed = false
+    val o =
+      Completable.fromAction { subscribed = true }.toObservable<Int>().autoDispose(scope).test()
+    assertThat(subscribed).isFalse()
+    o.assertNoValues().assertNoErrors().assertNotComplete()
+  }
+
   companion object {
     private val LOGGER = { message: String ->
       println(AutoDisposeCoroutinesInteropTest::class.java.simpleName + ": " + message)
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+plugins {
+  `java-library`
+  alias(libs.plugins.mavenPublish)
+}
+
+// The JFR event API is only available from Java 11, so unlike the other modules this one doesn't
+// target Java 8 or Android, and isn't checked against their API signatures.
+tasks.withType<JavaCompile>().configureEach { options.release.set(11) }
+
+dependencies {
+  api(project(":autodispose"))
+  compileOnly(libs.build.errorProneAnnotations)
+
+  testImplementation(project(":test-utils"))
+}
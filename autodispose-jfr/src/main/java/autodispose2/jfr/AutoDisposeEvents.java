@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.jfr;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** The JFR events committed by {@link FlightRecorderListener}. */
+final class AutoDisposeEvents {
+
+  private AutoDisposeEvents() {
+    throw new InstantiationError();
+  }
+
+  @Category("AutoDispose")
+  @StackTrace(false)
+  abstract static class SubscriptionEvent extends Event {
+    @Label("Scope Class")
+    @Description("Class of the scope, or of the ScopeProvider it was created from")
+    @Nullable
+    Class<?> scopeClass;
+
+    @Label("Observer Class")
+    @Description("Class of the observer wrapped by AutoDispose")
+    @Nullable
+    Class<?> observerClass;
+  }
+
+  @Name("autodispose2.Subscribe")
+  @Label("AutoDispose Subscribe")
+  @Description("An AutoDispose observer subscribed to its upstream")
+  @StackTrace(true)
+  static final class Subscribe extends SubscriptionEvent {}
+
+  abstract static class SubscriptionEndEvent extends SubscriptionEvent {
+    @Label("Lifetime")
+    @Description("Time from subscribing until the subscription ended")
+    @Timespan(Timespan.NANOSECONDS)
+    long lifetime;
+  }
+
+  @Name("autodispose2.ScopeDispose")
+  @Label("AutoDispose Scope Dispose")
+  @Description("The end of its scope disposed an AutoDispose observer")
+  static final class ScopeDispose extends SubscriptionEndEvent {}
+
+  @Name("autodispose2.UpstreamTerminate")
+  @Label("AutoDispose Upstream Terminate")
+  @Description("The upstream of an AutoDispose observer terminated by itself")
+  static final class UpstreamTerminate extends SubscriptionEndEvent {}
+
+  @Name("autodispose2.Dispose")
+  @Label("AutoDispose Dispose")
+  @Description("An AutoDispose observer was disposed by its downstream")
+  static final class Dispose extends SubscriptionEndEvent {}
+
+  @Name("autodispose2.OutsideScope")
+  @Label("AutoDispose Outside Scope")
+  @Description("A scope was requested outside of its bounds")
+  @Category("AutoDispose")
+  static final class OutsideScope extends Event {
+    @Label("Exception Class")
+    @Nullable
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    @Nullable
+    String message;
+  }
+}
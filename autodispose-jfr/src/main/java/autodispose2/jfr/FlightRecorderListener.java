@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.jfr;
+
+import autodispose2.AutoDisposeListener;
+import autodispose2.OutsideScopeException;
+import autodispose2.Scopes;
+import autodispose2.observers.AutoDisposingCompletableObserver;
+import autodispose2.observers.AutoDisposingMaybeObserver;
+import autodispose2.observers.AutoDisposingObserver;
+import autodispose2.observers.AutoDisposingSingleObserver;
+import autodispose2.observers.AutoDisposingSubscriber;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.EventType;
+
+/**
+ * An {@link AutoDisposeListener} that commits Java Flight Recorder events for AutoDispose
+ * subscriptions: {@code autodispose2.Subscribe} when one is subscribed, one of {@code
+ * autodispose2.ScopeDispose}, {@code autodispose2.UpstreamTerminate} or {@code
+ * autodispose2.Dispose} when it ends, and {@code autodispose2.OutsideScope} when a scope is
+ * requested outside of its bounds. Every subscription event carries the scope's class (or that of
+ * the {@link autodispose2.ScopeProvider} it came from) and the wrapped observer's class, and the
+ * ones that end a subscription carry its lifetime.
+ *
+ * <p>Install it with {@link autodispose2.AutoDisposePlugins#setListener(AutoDisposeListener)}.
+ * Every callback checks {@link EventType#isEnabled()} first, so this costs next to nothing while
+ * nothing is recording these events. Subscriptions are only held weakly while their lifetime is
+ * tracked.
+ */
+public final class FlightRecorderListener implements AutoDisposeListener {
+
+  private static final EventType SUBSCRIBE =
+      EventType.getEventType(AutoDisposeEvents.Subscribe.class);
+  private static final EventType SCOPE_DISPOSE =
+      EventType.getEventType(AutoDisposeEvents.ScopeDispose.class);
+  private static final EventType UPSTREAM_TERMINATE =
+      EventType.getEventType(AutoDisposeEvents.UpstreamTerminate.class);
+  private static final EventType DISPOSE = EventType.getEventType(AutoDisposeEvents.Dispose.class);
+  private static final EventType OUTSIDE_SCOPE =
+      EventType.getEventType(AutoDisposeEvents.OutsideScope.class);
+
+  /** Returns a new listener. */
+  public static FlightRecorderListener create() {
+    return new FlightRecorderListener(null);
+  }
+
+  /**
+   * Returns a new listener that also forwards every callback to {@code next}, as only one listener
+   * can be installed at a time.
+   */
+  public static FlightRecorderListener create(AutoDisposeListener next) {
+    if (next == null) {
+      throw new NullPointerException("next == null");
+    }
+    return new FlightRecorderListener(next);
+  }
+
+  private final ConcurrentHashMap<IdentityKey, Started> started = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+  @Nullable private final AutoDisposeListener next;
+
+  private FlightRecorderListener(@Nullable AutoDisposeListener next) {
+    this.next = next;
+  }
+
+  @Override
+  public void onSubscribe(Disposable observer, CompletableSource scope) {
+    boolean subscribe = SUBSCRIBE.isEnabled();
+    boolean track =
+        SCOPE_DISPOSE.isEnabled() || UPSTREAM_TERMINATE.isEnabled() || DISPOSE.isEnabled();
+    if (subscribe || track) {
+      Class<?> scopeClass = Scopes.originOf(scope).getClass();
+      Class<?> observerClass = delegateClass(observer);
+      if (subscribe) {
+        AutoDisposeEvents.Subscribe event = new AutoDisposeEvents.Subscribe();
+        event.scopeClass = scopeClass;
+        event.observerClass = observerClass;
+        event.commit();
+      }
+      if (track) {
+        expungeCollected();
+        started.put(
+            new IdentityKey(observer, collected),
+            new Started(System.nanoTime(), scopeClass, observerClass));
+      }
+    }
+    AutoDisposeListener next = this.next;
+    if (next != null) {
+      next.onSubscribe(observer, scope);
+    }
+  }
+
+  @Override
+  public void onScopeDispose(Disposable observer) {
+    Started s = end(observer);
+    if (s != null && SCOPE_DISPOSE.isEnabled()) {
+      s.commit(new AutoDisposeEvents.ScopeDispose());
+    }
+    AutoDisposeListener next = this.next;
+    if (next != null) {
+      next.onScopeDispose(observer);
+    }
+  }
+
+  @Override
+  public void onUpstreamTerminate(Disposable observer) {
+    Started s = end(observer);
+    if (s != null && UPSTREAM_TERMINATE.isEnabled()) {
+      s.commit(new AutoDisposeEvents.UpstreamTerminate());
+    }
+    AutoDisposeListener next = this.next;
+    if (next != null) {
+      next.onUpstreamTerminate(observer);
+    }
+  }
+
+  @Override
+  public void onDispose(Disposable observer) {
+    Started s = end(observer);
+    if (s != null && DISPOSE.isEnabled()) {
+      s.commit(new AutoDisposeEvents.Dispose());
+    }
+    AutoDisposeListener next = this.next;
+    if (next != null) {
+      next.onDispose(observer);
+    }
+  }
+
+  @Override
+  public void onOutsideScope(OutsideScopeException e) {
+    if (OUTSIDE_SCOPE.isEnabled()) {
+      AutoDisposeEvents.OutsideScope event = new AutoDisposeEvents.OutsideScope();
+      event.exceptionClass = e.getClass();
+      event.message = e.getMessage();
+      event.commit();
+    }
+    AutoDisposeListener next = this.next;
+    if (next != null) {
+      next.onOutsideScope(e);
+    }
+  }
+
+  @Nullable
+  private Started end(Disposable observer) {
+    if (started.isEmpty()) {
+      // Nothing was recording when this was subscribed
+      return null;
+    }
+    return started.remove(new IdentityKey(observer, null));
+  }
+
+  private void expungeCollected() {
+    Reference<?> ref;
+    while ((ref = collected.poll()) != null) {
+      started.remove(ref);
+    }
+  }
+
+  private static Class<?> delegateClass(Disposable observer) {
+    Object delegate = observer;
+    if (observer instanceof AutoDisposingObserver) {
+      delegate = ((AutoDisposingObserver<?>) observer).delegateObserver();
+    } else if (observer instanceof AutoDisposingSubscriber) {
+      delegate = ((AutoDisposingSubscriber<?>) observer).delegateSubscriber();
+    } else if (observer instanceof AutoDisposingSingleObserver) {
+      delegate = ((AutoDisposingSingleObserver<?>) observer).delegateObserver();
+    } else if (observer instanceof AutoDisposingMaybeObserver) {
+      delegate = ((AutoDisposingMaybeObserver<?>) observer).delegateObserver();
+    } else if (observer instanceof AutoDisposingCompletableObserver) {
+      delegate = ((AutoDisposingCompletableObserver) observer).delegateObserver();
+    }
+    return delegate.getClass();
+  }
+
+  /** What's known about a subscription when it started, to fill in the event that ends it. */
+  private static final class Started {
+    private final long startNanos;
+    private final Class<?> scopeClass;
+    private final Class<?> observerClass;
+
+    Started(long startNanos, Class<?> scopeClass, Class<?> observerClass) {
+      this.startNanos = startNanos;
+      this.scopeClass = scopeClass;
+      this.observerClass = observerClass;
+    }
+
+    void commit(AutoDisposeEvents.SubscriptionEndEvent event) {
+      event.scopeClass = scopeClass;
+      event.observerClass = observerClass;
+      event.lifetime = System.nanoTime() - startNanos;
+      event.commit();
+    }
+  }
+
+  /**
+   * A weak key that compares its referent by identity. This is a copy of the tracker's key in core,
+   * which stays package-private there so it isn't part of the public API.
+   */
+  private static final class IdentityKey extends WeakReference<Object> {
+    private final int hash;
+
+    IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof IdentityKey)) {
+        return false;
+      }
+      Object referent = get();
+      return referent != null && referent == ((IdentityKey) o).get();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.jfr;
+
+import static autodispose2.AutoDispose.autoDisposable;
+import static com.google.common.truth.Truth.assertThat;
+
+import autodispose2.AutoDisposePlugins;
+import autodispose2.OutsideScopeException;
+import autodispose2.ScopeProvider;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlightRecorderListenerTest {
+
+  private final Recording recording = new Recording();
+
+  @Before
+  public void setUp() {
+    AutoDisposePlugins.setListener(FlightRecorderListener.create());
+  }
+
+  @After
+  public void tearDown() {
+    recording.close();
+    AutoDisposePlugins.reset();
+  }
+
+  @Test
+  public void scopeEnd_recordsSubscribeAndScopeDispose() throws IOException {
+    enableAll();
+    recording.start();
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.to(autoDisposable(scope)).test();
+    scope.onComplete();
+
+    List<RecordedEvent> events = stopAndRead();
+    assertThat(names(events))
+        .containsExactly("autodispose2.Subscribe", "autodispose2.ScopeDispose")
+        .inOrder();
+    for (RecordedEvent event : events) {
+      assertThat(event.getClass("scopeClass").getName())
+          .isEqualTo(CompletableSubject.class.getName());
+      assertThat(event.getClass("observerClass").getName()).isEqualTo(o.getClass().getName());
+    }
+    assertThat(events.get(1).getLong("lifetime")).isAtLeast(0L);
+  }
+
+  @Test
+  public void upstreamTerminateAndDispose_recordTheScopeProvider() throws IOException {
+    enableAll();
+    recording.start();
+    ScopeProvider provider = new SubjectScopeProvider();
+    Observable.just(1).to(autoDisposable(provider)).test();
+    PublishSubject.create().to(autoDisposable(provider)).test().dispose();
+
+    List<RecordedEvent> events = stopAndRead();
+    assertThat(names(events))
+        .containsExactly(
+            "autodispose2.Subscribe",
+            "autodispose2.UpstreamTerminate",
+            "autodispose2.Subscribe",
+            "autodispose2.Dispose")
+        .inOrder();
+    for (RecordedEvent event : events) {
+      assertThat(event.getClass("scopeClass").getName()).isEqualTo(provider.getClass().getName());
+    }
+  }
+
+  @Test
+  public void outsideScope_recordsTheException() throws IOException {
+    enableAll();
+    recording.start();
+    ScopeProvider provider =
+        () -> {
+          throw new OutsideScopeException("Outside scope!");
+        };
+    Observable.just(1).to(autoDisposable(provider)).test();
+
+    List<String> messages = new ArrayList<>();
+    for (RecordedEvent event : stopAndRead()) {
+      if (event.getEventType().getName().equals("autodispose2.OutsideScope")) {
+        messages.add(event.getString("message"));
+      }
+    }
+    assertThat(messages).containsExactly("Outside scope!");
+  }
+
+  @Test
+  public void disabled_recordsNothing() throws IOException {
+    recording.disable("autodispose2.Subscribe");
+    recording.disable("autodispose2.ScopeDispose");
+    recording.disable("autodispose2.UpstreamTerminate");
+    recording.disable("autodispose2.Dispose");
+    recording.disable("autodispose2.OutsideScope");
+    recording.start();
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject.create().to(autoDisposable(scope)).test();
+    scope.onComplete();
+
+    assertThat(stopAndRead()).isEmpty();
+  }
+
+  private void enableAll() {
+    recording.enable("autodispose2.Subscribe");
+    recording.enable("autodispose2.ScopeDispose");
+    recording.enable("autodispose2.UpstreamTerminate");
+    recording.enable("autodispose2.Dispose");
+    recording.enable("autodispose2.OutsideScope");
+  }
+
+  private List<RecordedEvent> stopAndRead() throws IOException {
+    recording.stop();
+    Path file = Files.createTempFile("autodispose", ".jfr");
+    try {
+      recording.dump(file);
+      List<RecordedEvent> events = new ArrayList<>();
+      for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+        if (event.getEventType().getName().startsWith("autodispose2.")) {
+          events.add(event);
+        }
+      }
+      return events;
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /** Named so its class name survives the trip through JFR, unlike a lambda's hidden class. */
+  private static final class SubjectScopeProvider implements ScopeProvider {
+    @Override
+    public CompletableSubject requestScope() {
+      return CompletableSubject.create();
+    }
+  }
+
+  private static List<String> names(List<RecordedEvent> events) {
+    List<String> names = new ArrayList<>();
+    for (RecordedEvent event : events) {
+      names.add(event.getEventType().getName());
+    }
+    return names;
+  }
+}
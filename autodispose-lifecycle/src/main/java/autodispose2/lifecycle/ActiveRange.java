@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.functions.Predicate;
+
+/** Tests whether a lifecycle event is in {@code [from, until)}. */
+final class ActiveRange<@NonNull E extends Comparable<E>> implements Predicate<E> {
+
+  private final E from;
+  private final E until;
+
+  private ActiveRange(E from, E until) {
+    this.from = from;
+    this.until = until;
+  }
+
+  static <@NonNull E extends Comparable<E>> ActiveRange<E> of(E from, E until) {
+    if (from.compareTo(until) >= 0) {
+      throw new IllegalArgumentException("from must be before until");
+    }
+    return new ActiveRange<>(from, until);
+  }
+
+  /** Returns whether {@code event} is in range, treating a not yet started lifecycle as not. */
+  @Override
+  public boolean test(@Nullable E event) {
+    return event != null && from.compareTo(event) <= 0 && event.compareTo(until) < 0;
+  }
+}
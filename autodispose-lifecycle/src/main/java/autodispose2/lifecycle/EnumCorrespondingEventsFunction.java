@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import autodispose2.OutsideScopeException;
+import io.reactivex.rxjava3.annotations.NonNull;
+
+/**
+ * A {@link CorrespondingEventsFunction} for enum lifecycles that resolves events with a table
+ * lookup by ordinal.
+ *
+ * <p>The table is computed once by applying a {@code delegate} function to every constant of the
+ * enum. Events that it throws for, usually with a {@link LifecycleEndedException} past the end of
+ * the lifecycle, are only marked. The delegate is called again for those, so every call throws its
+ * own exception with a stacktrace filled in as configured by {@link
+ * autodispose2.AutoDisposePlugins#setFillInOutsideScopeExceptionStacktraces(boolean)}.
+ *
+ * <pre><code>
+ *   private static final CorrespondingEventsFunction&lt;MyEvent&gt; CORRESPONDING_EVENTS =
+ *       EnumCorrespondingEventsFunction.from(MyEvent.class, event -&gt; {
+ *         switch (event) {
+ *           case START:
+ *             return MyEvent.STOP;
+ *           default:
+ *             throw new LifecycleEndedException();
+ *         }
+ *       });
+ * </code></pre>
+ *
+ * <p>As the table is only computed once, the delegate must be a pure function of the event.
+ *
+ * @param <E> the enum event type.
+ */
+public final class EnumCorrespondingEventsFunction<@NonNull E extends Enum<E>>
+    implements CorrespondingEventsFunction<E> {
+
+  /** Marks the ordinals of events that {@link #delegate} throws for. */
+  private static final Object OUTSIDE_SCOPE = new Object();
+
+  /**
+   * Returns a new {@link EnumCorrespondingEventsFunction} precomputed from {@code delegate}.
+   *
+   * @param eventType the enum event type.
+   * @param delegate the function to precompute.
+   * @param <E> the enum event type.
+   * @return the precomputed function.
+   */
+  public static <@NonNull E extends Enum<E>> EnumCorrespondingEventsFunction<E> from(
+      Class<E> eventType, CorrespondingEventsFunction<E> delegate) {
+    E[] events = eventType.getEnumConstants();
+    Object[] table = new Object[events.length];
+    for (E event : events) {
+      Object result;
+      try {
+        result = delegate.apply(event);
+      } catch (RuntimeException e) {
+        result = OUTSIDE_SCOPE;
+      }
+      table[event.ordinal()] = result;
+    }
+    return new EnumCorrespondingEventsFunction<>(delegate, table);
+  }
+
+  private final CorrespondingEventsFunction<E> delegate;
+
+  /** Per ordinal, either the corresponding event or {@link #OUTSIDE_SCOPE}. */
+  private final Object[] table;
+
+  private EnumCorrespondingEventsFunction(CorrespondingEventsFunction<E> delegate, Object[] table) {
+    this.delegate = delegate;
+    this.table = table;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public E apply(E event) throws OutsideScopeException {
+    Object result = table[event.ordinal()];
+    if (result == OUTSIDE_SCOPE) {
+      return delegate.apply(event);
+    }
+    return (E) result;
+  }
+}
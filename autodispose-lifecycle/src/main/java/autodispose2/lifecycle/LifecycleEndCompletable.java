@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.ObservableSource;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.Comparator;
+
+/**
+ * Completes once a lifecycle emits its end event, ignoring the first (current) event. This is the
+ * fused equivalent of {@code lifecycle.skip(1).takeUntil(e -> isEnd(e)).ignoreElements()}, with a
+ * single observer per subscription.
+ *
+ * <p>An event is the end event if it's at or past it per {@code comparator}, or, for enums,
+ * by ordinal when {@code endOrdinal} is set. Without either, it has to be equal to it.
+ */
+final class LifecycleEndCompletable<@NonNull E> extends Completable {
+
+  /** {@code endOrdinal} value when the end isn't matched by ordinal. */
+  static final int NO_ORDINAL = -1;
+
+  private final ObservableSource<E> lifecycle;
+  private final E endEvent;
+  @Nullable private final Comparator<E> comparator;
+  private final int endOrdinal;
+
+  LifecycleEndCompletable(
+      ObservableSource<E> lifecycle, E endEvent, @Nullable Comparator<E> comparator) {
+    this(lifecycle, endEvent, comparator, NO_ORDINAL);
+  }
+
+  LifecycleEndCompletable(
+      ObservableSource<E> lifecycle,
+      E endEvent,
+      @Nullable Comparator<E> comparator,
+      int endOrdinal) {
+    this.lifecycle = lifecycle;
+    this.endEvent = endEvent;
+    this.comparator = comparator;
+    this.endOrdinal = endOrdinal;
+  }
+
+  @Override
+  protected void subscribeActual(CompletableObserver observer) {
+    lifecycle.subscribe(new EndObserver<>(observer, endEvent, comparator, endOrdinal));
+  }
+
+  static final class EndObserver<@NonNull E> implements Observer<E>, Disposable {
+    private final CompletableObserver downstream;
+    private final E endEvent;
+    @Nullable private final Comparator<E> comparator;
+    private final int endOrdinal;
+    @Nullable private Disposable upstream;
+    private boolean skippedFirst;
+    private boolean done;
+
+    EndObserver(
+        CompletableObserver downstream,
+        E endEvent,
+        @Nullable Comparator<E> comparator,
+        int endOrdinal) {
+      this.downstream = downstream;
+      this.endEvent = endEvent;
+      this.comparator = comparator;
+      this.endOrdinal = endOrdinal;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+      upstream = d;
+      downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(E event) {
+      if (done) {
+        return;
+      }
+      if (!skippedFirst) {
+        skippedFirst = true;
+        return;
+      }
+      boolean ended;
+      try {
+        ended = isEnd(event);
+      } catch (Throwable e) {
+        Exceptions.throwIfFatal(e);
+        dispose();
+        onError(e);
+        return;
+      }
+      if (ended) {
+        done = true;
+        dispose();
+        downstream.onComplete();
+      }
+    }
+
+    private boolean isEnd(E event) {
+      if (endOrdinal != NO_ORDINAL) {
+        return ((Enum<?>) event).ordinal() >= endOrdinal;
+      }
+      Comparator<E> comparator = this.comparator;
+      if (comparator != null) {
+        return comparator.compare(event, endEvent) >= 0;
+      }
+      return event.equals(endEvent);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      if (done) {
+        RxJavaPlugins.onError(e);
+        return;
+      }
+      done = true;
+      downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+      if (!done) {
+        done = true;
+        downstream.onComplete();
+      }
+    }
+
+    @SuppressWarnings("NullAway") // Only called after onSubscribe
+    @Override
+    public void dispose() {
+      upstream.dispose();
+    }
+
+    @SuppressWarnings("NullAway") // Only called after onSubscribe
+    @Override
+    public boolean isDisposed() {
+      return upstream.isDisposed();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Forwards lifecycle events to the {@link Gate} of a {@link LifecycleGating} operator. Completion
+ * of the lifecycle is ignored, so the gate keeps its last state.
+ */
+final class LifecycleGateObserver<@NonNull E> extends AtomicReference<Disposable>
+    implements Observer<E>, Disposable {
+
+  /**
+   * Set in place of a disposable once disposed. Unlike {@link Disposable#disposed()}, which is a
+   * shared instance a source may hand out itself, nothing else can ever pass this one in.
+   */
+  private static final Disposable DISPOSED = Disposable.empty();
+
+  interface Gate<@NonNull E> {
+    void onLifecycle(E event);
+
+    void onLifecycleError(Throwable e);
+  }
+
+  private final Gate<E> gate;
+
+  LifecycleGateObserver(Gate<E> gate) {
+    this.gate = gate;
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    setOnce(this, d);
+  }
+
+  @Override
+  public void onNext(E event) {
+    gate.onLifecycle(event);
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    gate.onLifecycleError(e);
+  }
+
+  @Override
+  public void onComplete() {
+    // Keeps the last known state
+  }
+
+  @Override
+  public void dispose() {
+    disposeRef(this);
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return get() == DISPOSED;
+  }
+
+  static void setOnce(AtomicReference<Disposable> ref, Disposable d) {
+    if (!ref.compareAndSet(null, d)) {
+      d.dispose();
+    }
+  }
+
+  static void disposeRef(AtomicReference<Disposable> ref) {
+    Disposable d = ref.getAndSet(DISPOSED);
+    if (d != null) {
+      d.dispose();
+    }
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import static autodispose2.lifecycle.LifecycleGateObserver.disposeRef;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Predicate;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Withholds downstream demand from {@code source} while {@code isActive} doesn't match the latest
+ * lifecycle event, and forwards what accumulated once it does again. Items are never buffered
+ * here, so the producer itself slows down.
+ *
+ * <p>Demand that was already forwarded stays with the producer, so items requested before a pause
+ * can still arrive during it.
+ */
+final class LifecycleGatedFlowable<@NonNull T, @NonNull E> extends Flowable<T> {
+
+  private final Publisher<T> source;
+  private final LifecycleScopeProvider<E> provider;
+  private final Predicate<E> isActive;
+
+  LifecycleGatedFlowable(
+      Publisher<T> source, LifecycleScopeProvider<E> provider, Predicate<E> isActive) {
+    this.source = source;
+    this.provider = provider;
+    this.isActive = isActive;
+  }
+
+  @Override
+  protected void subscribeActual(Subscriber<? super T> subscriber) {
+    GatedSubscriber<T, E> parent = new GatedSubscriber<>(subscriber, isActive);
+    subscriber.onSubscribe(parent);
+    E current = provider.peekLifecycle();
+    if (current != null) {
+      parent.onLifecycle(current);
+    }
+    provider.lifecycle().subscribe(parent.lifecycleObserver);
+    source.subscribe(parent);
+  }
+
+  static final class GatedSubscriber<@NonNull T, @NonNull E> extends AtomicInteger
+      implements FlowableSubscriber<T>, Subscription, LifecycleGateObserver.Gate<E> {
+
+    /** Set in place of the upstream subscription once cancelled. */
+    private static final Subscription CANCELLED =
+        new Subscription() {
+          @Override
+          public void request(long n) {}
+
+          @Override
+          public void cancel() {}
+        };
+
+    final LifecycleGateObserver<E> lifecycleObserver = new LifecycleGateObserver<>(this);
+    private final Subscriber<? super T> downstream;
+    private final Predicate<E> isActive;
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+    private final AtomicLong pending = new AtomicLong();
+    /** Serializes {@link #flush()}, as the downstream and the lifecycle can both trigger it. */
+    private final AtomicInteger requestWip = new AtomicInteger();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private volatile boolean active;
+
+    GatedSubscriber(Subscriber<? super T> downstream, Predicate<E> isActive) {
+      this.downstream = downstream;
+      this.isActive = isActive;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      if (upstream.compareAndSet(null, s)) {
+        flush();
+      } else {
+        s.cancel();
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        RxJavaPlugins.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+        return;
+      }
+      for (; ; ) {
+        long r = pending.get();
+        long u = r + n < 0 ? Long.MAX_VALUE : r + n;
+        if (pending.compareAndSet(r, u)) {
+          break;
+        }
+      }
+      flush();
+    }
+
+    @Override
+    public void onLifecycle(E event) {
+      boolean active;
+      try {
+        active = isActive.test(event);
+      } catch (Throwable e) {
+        Exceptions.throwIfFatal(e);
+        onLifecycleError(e);
+        return;
+      }
+      this.active = active;
+      flush();
+    }
+
+    /**
+     * Forwards the accumulated demand if active. Calls to {@link Subscription#request(long)} must
+     * be serial, so whoever triggers this while another thread is in it only marks it as missed,
+     * and that thread then re-reads the state and forwards any demand on their behalf.
+     */
+    private void flush() {
+      if (requestWip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      for (; ; ) {
+        Subscription s = upstream.get();
+        if (active && s != null) {
+          long n = pending.getAndSet(0);
+          if (n != 0) {
+            s.request(n);
+          }
+        }
+        missed = requestWip.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    // Upstream signals may race with a lifecycle error, so terminal events are serialized the same
+    // way as in AutoDispose's HalfSerializer.
+
+    @Override
+    public void onNext(T value) {
+      if (get() == 0 && compareAndSet(0, 1)) {
+        downstream.onNext(value);
+        if (decrementAndGet() != 0) {
+          Throwable e = error.get();
+          if (e != null) {
+            downstream.onError(e);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      if (error.compareAndSet(null, e)) {
+        cancel();
+        if (getAndIncrement() == 0) {
+          downstream.onError(e);
+        }
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+
+    @Override
+    public void onLifecycleError(Throwable e) {
+      onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+      disposeRef(lifecycleObserver);
+      if (getAndIncrement() == 0) {
+        downstream.onComplete();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      Subscription s = upstream.getAndSet(CANCELLED);
+      if (s != null) {
+        s.cancel();
+      }
+      disposeRef(lifecycleObserver);
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import static autodispose2.lifecycle.LifecycleGateObserver.disposeRef;
+import static autodispose2.lifecycle.LifecycleGateObserver.setOnce;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.ObservableSource;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Predicate;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds back items of {@code source} while {@code isActive} doesn't match the latest lifecycle
+ * event, either keeping the latest of them ({@code conflate}) or dropping them.
+ *
+ * <p>Items, lifecycle events and disposal may come from different threads. While active and with
+ * nothing held back, items are emitted directly, and everything else goes through a single drain
+ * loop.
+ */
+final class LifecycleGatedObservable<@NonNull T, @NonNull E> extends Observable<T> {
+
+  private final ObservableSource<T> source;
+  private final LifecycleScopeProvider<E> provider;
+  private final Predicate<E> isActive;
+  private final boolean conflate;
+
+  LifecycleGatedObservable(
+      ObservableSource<T> source,
+      LifecycleScopeProvider<E> provider,
+      Predicate<E> isActive,
+      boolean conflate) {
+    this.source = source;
+    this.provider = provider;
+    this.isActive = isActive;
+    this.conflate = conflate;
+  }
+
+  @Override
+  protected void subscribeActual(Observer<? super T> observer) {
+    GatedObserver<T, E> parent = new GatedObserver<>(observer, isActive, conflate);
+    observer.onSubscribe(parent);
+    E current = provider.peekLifecycle();
+    if (current != null) {
+      parent.onLifecycle(current);
+    }
+    provider.lifecycle().subscribe(parent.lifecycleObserver);
+    source.subscribe(parent);
+  }
+
+  static final class GatedObserver<@NonNull T, @NonNull E> extends AtomicInteger
+      implements Observer<T>, Disposable, LifecycleGateObserver.Gate<E> {
+
+    final LifecycleGateObserver<E> lifecycleObserver = new LifecycleGateObserver<>(this);
+    private final Observer<? super T> downstream;
+    private final Predicate<E> isActive;
+    private final boolean conflate;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    /** Items that arrived while active but couldn't be emitted directly, in order. */
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    /** The latest item that arrived while inactive, only used if {@code conflate}. */
+    private final AtomicReference<@Nullable T> latest = new AtomicReference<>();
+    private final AtomicReference<@Nullable Throwable> error = new AtomicReference<>();
+    private volatile boolean active;
+    private volatile boolean done;
+    private volatile boolean disposed;
+
+    GatedObserver(Observer<? super T> downstream, Predicate<E> isActive, boolean conflate) {
+      this.downstream = downstream;
+      this.isActive = isActive;
+      this.conflate = conflate;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+      setOnce(upstream, d);
+    }
+
+    @Override
+    public void onNext(T value) {
+      if (active) {
+        if (get() == 0 && compareAndSet(0, 1)) {
+          if (!disposed && queue.isEmpty() && latest.get() == null) {
+            downstream.onNext(value);
+            if (decrementAndGet() == 0) {
+              return;
+            }
+          } else {
+            enqueue(value);
+          }
+          drainLoop();
+        } else {
+          enqueue(value);
+          drain();
+        }
+      } else if (conflate) {
+        latest.set(value);
+        drain();
+      }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      fail(e);
+    }
+
+    @Override
+    public void onComplete() {
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onLifecycle(E event) {
+      boolean active;
+      try {
+        active = isActive.test(event);
+      } catch (Throwable e) {
+        Exceptions.throwIfFatal(e);
+        fail(e);
+        return;
+      }
+      this.active = active;
+      drain();
+    }
+
+    @Override
+    public void onLifecycleError(Throwable e) {
+      fail(e);
+    }
+
+    private void fail(Throwable e) {
+      if (error.compareAndSet(null, e)) {
+        done = true;
+        drain();
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (!disposed) {
+        disposed = true;
+        disposeRef(upstream);
+        disposeRef(lifecycleObserver);
+        if (getAndIncrement() == 0) {
+          clear();
+        }
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return disposed;
+    }
+
+    /** Queues {@code value} behind the conflated item, if any, to keep them in order. */
+    private void enqueue(T value) {
+      T held = latest.getAndSet(null);
+      if (held != null) {
+        queue.offer(held);
+      }
+      queue.offer(value);
+    }
+
+    /**
+     * Went inactive before the queued items were delivered, so only the latest of them is kept, the
+     * same as for items arriving while inactive. One that arrived since then is newer still.
+     */
+    private void conflateQueue() {
+      @Nullable T last = null;
+      for (T value; (value = queue.poll()) != null; ) {
+        last = value;
+      }
+      if (last != null) {
+        latest.compareAndSet(null, last);
+      }
+    }
+
+    private void clear() {
+      queue.clear();
+      latest.lazySet(null);
+    }
+
+    private void drain() {
+      if (getAndIncrement() == 0) {
+        drainLoop();
+      }
+    }
+
+    private void drainLoop() {
+      int missed = 1;
+      for (; ; ) {
+        if (disposed) {
+          clear();
+          return;
+        }
+        // Read before the items, so an item sent ahead of completion is never skipped.
+        boolean d = done;
+        Throwable e = error.get();
+        if (e != null) {
+          clear();
+          dispose();
+          downstream.onError(e);
+          return;
+        }
+        if (active) {
+          for (T value; (value = queue.poll()) != null; ) {
+            if (disposed) {
+              clear();
+              return;
+            }
+            downstream.onNext(value);
+          }
+          T value = latest.getAndSet(null);
+          if (value != null) {
+            downstream.onNext(value);
+          }
+        } else if (conflate) {
+          conflateQueue();
+        } else {
+          // Went inactive before these were delivered, so they're dropped like any other.
+          queue.clear();
+        }
+        if (d && queue.isEmpty() && latest.get() == null) {
+          dispose();
+          downstream.onComplete();
+          return;
+        }
+        missed = addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.ObservableTransformer;
+
+/**
+ * Factories for operators that hold back emissions while a {@link LifecycleScopeProvider} is
+ * outside of an active range of its lifecycle, such as between {@code ON_PAUSE} and {@code
+ * ON_RESUME} on Android.
+ *
+ * <p>A subscription bound with AutoDispose stays alive until the end of its scope, so without these
+ * it keeps running UI code while the screen isn't visible. The active range is given as a {@code
+ * from} event, inclusive, and an {@code until} event, exclusive, and the lifecycle is active while
+ * its latest event falls in that range:
+ *
+ * <pre><code>
+ *   prices
+ *       .compose(conflateWhileInactive(provider, Event.ON_RESUME, Event.ON_PAUSE)) // Static import
+ *       .to(autoDisposable(provider))
+ *       .subscribe(view::render);
+ * </code></pre>
+ *
+ * Errors are always delivered immediately. Lifecycle events are read from {@link
+ * LifecycleScopeProvider#lifecycle()}, with {@link LifecycleScopeProvider#peekLifecycle()} as the
+ * initial state. For a {@code Flowable}, {@link #pauseDemandWhileInactive} withholds demand from
+ * its producer instead.
+ */
+public final class LifecycleGating {
+
+  private LifecycleGating() {
+    throw new InstantiationError();
+  }
+
+  /**
+   * Returns a transformer that keeps only the latest item emitted while the lifecycle of {@code
+   * provider} is inactive, and delivers it once the lifecycle is active again. Completion waits
+   * for that item to be delivered.
+   *
+   * @param provider the {@link LifecycleScopeProvider} to read lifecycle events from.
+   * @param from the first event of the active range, inclusive.
+   * @param until the end of the active range, exclusive.
+   * @param <E> the lifecycle event type
+   * @param <T> the item type
+   * @throws IllegalArgumentException if {@code from} isn't before {@code until}.
+   */
+  public static <@NonNull E extends Comparable<E>, @NonNull T>
+      ObservableTransformer<T, T> conflateWhileInactive(
+          LifecycleScopeProvider<E> provider, E from, E until) {
+    ActiveRange<E> range = ActiveRange.of(from, until);
+    return upstream -> new LifecycleGatedObservable<>(upstream, provider, range, true);
+  }
+
+  /**
+   * Returns a transformer that drops items emitted while the lifecycle of {@code provider} is
+   * inactive.
+   *
+   * @param provider the {@link LifecycleScopeProvider} to read lifecycle events from.
+   * @param from the first event of the active range, inclusive.
+   * @param until the end of the active range, exclusive.
+   * @param <E> the lifecycle event type
+   * @param <T> the item type
+   * @throws IllegalArgumentException if {@code from} isn't before {@code until}.
+   */
+  public static <@NonNull E extends Comparable<E>, @NonNull T>
+      ObservableTransformer<T, T> dropWhileInactive(
+          LifecycleScopeProvider<E> provider, E from, E until) {
+    ActiveRange<E> range = ActiveRange.of(from, until);
+    return upstream -> new LifecycleGatedObservable<>(upstream, provider, range, false);
+  }
+
+  /**
+   * Returns a transformer that stops requesting items from upstream while the lifecycle of {@code
+   * provider} is inactive, and requests what was asked for in the meantime once it's active again.
+   * Unlike {@link #conflateWhileInactive} this throttles the producer itself, such as a database
+   * query or a sensor, rather than buffering its items. Demand that was already requested before
+   * the lifecycle became inactive is left to the producer to fulfill.
+   *
+   * @param provider the {@link LifecycleScopeProvider} to read lifecycle events from.
+   * @param from the first event of the active range, inclusive.
+   * @param until the end of the active range, exclusive.
+   * @param <E> the lifecycle event type
+   * @param <T> the item type
+   * @throws IllegalArgumentException if {@code from} isn't before {@code until}.
+   */
+  public static <@NonNull E extends Comparable<E>, @NonNull T>
+      FlowableTransformer<T, T> pauseDemandWhileInactive(
+          LifecycleScopeProvider<E> provider, E from, E until) {
+    ActiveRange<E> range = ActiveRange.of(from, until);
+    return upstream -> new LifecycleGatedFlowable<>(upstream, provider, range);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package autodispose2.lifecycle;
 
+import autodispose2.AutoDisposeListener;
 import autodispose2.AutoDisposePlugins;
 import autodispose2.OutsideScopeException;
 import io.reactivex.rxjava3.annotations.NonNull;
@@ -23,7 +24,6 @@ import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.functions.Consumer;
-import io.reactivex.rxjava3.functions.Predicate;
 import io.reactivex.rxjava3.functions.Supplier;
 import java.util.Comparator;
 
@@ -91,6 +91,11 @@ public final class LifecycleScopes {
         Consumer<? super OutsideScopeException> handler =
             AutoDisposePlugins.getOutsideScopeHandler();
         if (handler != null) {
+          // Rethrown exceptions are reported by Scopes.completableOf(), swallowed ones here.
+          AutoDisposeListener listener = AutoDisposePlugins.getListener();
+          if (listener != null) {
+            listener.onOutsideScope((LifecycleEndedException) e);
+          }
           try {
             handler.accept((LifecycleEndedException) e);
 
@@ -117,6 +122,11 @@ public final class LifecycleScopes {
    */
   public static <@NonNull E> CompletableSource resolveScopeFromLifecycle(
       Observable<E> lifecycle, final E endEvent) {
+    if (endEvent instanceof Enum) {
+      // Same as their natural order, without the per-event class check in Enum.compareTo().
+      return new LifecycleEndCompletable<>(
+          lifecycle, endEvent, null, ((Enum<?>) endEvent).ordinal());
+    }
     @Nullable Comparator<E> comparator = null;
     if (endEvent instanceof Comparable) {
       //noinspection unchecked
@@ -136,12 +146,6 @@ public final class LifecycleScopes {
    */
   public static <@NonNull E> CompletableSource resolveScopeFromLifecycle(
       Observable<E> lifecycle, final E endEvent, @Nullable final Comparator<E> comparator) {
-    Predicate<E> equalityPredicate;
-    if (comparator != null) {
-      equalityPredicate = e -> comparator.compare(e, endEvent) >= 0;
-    } else {
-      equalityPredicate = e -> e.equals(endEvent);
-    }
-    return lifecycle.skip(1).takeUntil(equalityPredicate).ignoreElements();
+    return new LifecycleEndCompletable<>(lifecycle, endEvent, comparator);
   }
 }
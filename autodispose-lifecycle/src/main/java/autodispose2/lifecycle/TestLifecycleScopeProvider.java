@@ -29,6 +29,20 @@ import io.reactivex.rxjava3.subjects.BehaviorSubject;
 public final class TestLifecycleScopeProvider
     implements LifecycleScopeProvider<TestLifecycleScopeProvider.TestLifecycle> {
 
+  private static final CorrespondingEventsFunction<TestLifecycle> CORRESPONDING_EVENTS =
+      EnumCorrespondingEventsFunction.from(
+          TestLifecycle.class,
+          testLifecycle -> {
+            switch (testLifecycle) {
+              case STARTED:
+                return TestLifecycle.STOPPED;
+              case STOPPED:
+                throw new LifecycleEndedException();
+              default:
+                throw new IllegalStateException("Unknown lifecycle event.");
+            }
+          });
+
   private final BehaviorSubject<TestLifecycle> lifecycleSubject;
 
   private TestLifecycleScopeProvider(@Nullable TestLifecycle initialValue) {
@@ -62,16 +76,7 @@ public final class TestLifecycleScopeProvider
 
   @Override
   public CorrespondingEventsFunction<TestLifecycle> correspondingEvents() {
-    return testLifecycle -> {
-      switch (testLifecycle) {
-        case STARTED:
-          return TestLifecycle.STOPPED;
-        case STOPPED:
-          throw new LifecycleEndedException();
-        default:
-          throw new IllegalStateException("Unknown lifecycle event.");
-      }
-    };
+    return CORRESPONDING_EVENTS;
   }
 
   @Override
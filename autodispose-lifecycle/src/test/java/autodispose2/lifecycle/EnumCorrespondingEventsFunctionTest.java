@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import autodispose2.AutoDisposePlugins;
+import autodispose2.lifecycle.TestLifecycleScopeProvider.TestLifecycle;
+import org.junit.After;
+import org.junit.Test;
+
+public final class EnumCorrespondingEventsFunctionTest {
+
+  @After
+  public void resetPlugins() {
+    AutoDisposePlugins.setFillInOutsideScopeExceptionStacktraces(false);
+  }
+
+  private static final CorrespondingEventsFunction<TestLifecycle> FUNCTION =
+      EnumCorrespondingEventsFunction.from(
+          TestLifecycle.class,
+          event -> {
+            if (event == TestLifecycle.STARTED) {
+              return TestLifecycle.STOPPED;
+            }
+            throw new LifecycleEndedException("Ended at " + event);
+          });
+
+  @Test
+  public void resolvesCorrespondingEvent() {
+    assertThat(FUNCTION.apply(TestLifecycle.STARTED)).isEqualTo(TestLifecycle.STOPPED);
+  }
+
+  @Test
+  public void endedEvent_throwsNewExceptionEachTime() {
+    LifecycleEndedException first = applyExpectingEnd(TestLifecycle.STOPPED);
+    LifecycleEndedException second = applyExpectingEnd(TestLifecycle.STOPPED);
+    assertThat(second).isNotSameInstanceAs(first);
+    assertThat(first).hasMessageThat().isEqualTo("Ended at STOPPED");
+    assertThat(first.getStackTrace()).isEmpty();
+  }
+
+  @Test
+  public void endedEvent_fillsInStacktraceIfEnabled() {
+    AutoDisposePlugins.setFillInOutsideScopeExceptionStacktraces(true);
+
+    assertThat(applyExpectingEnd(TestLifecycle.STOPPED).getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  public void testLifecycleScopeProvider_sharesFunction() {
+    assertThat(TestLifecycleScopeProvider.create().correspondingEvents())
+        .isSameInstanceAs(TestLifecycleScopeProvider.create().correspondingEvents());
+  }
+
+  private static LifecycleEndedException applyExpectingEnd(TestLifecycle event) {
+    try {
+      FUNCTION.apply(event);
+    } catch (LifecycleEndedException e) {
+      return e;
+    }
+    throw new AssertionError("Expected a LifecycleEndedException for " + event);
+  }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.lifecycle;
+
+import static autodispose2.lifecycle.LifecycleGating.conflateWhileInactive;
+import static autodispose2.lifecycle.LifecycleGating.dropWhileInactive;
+import static autodispose2.lifecycle.LifecycleGating.pauseDemandWhileInactive;
+import static autodispose2.lifecycle.TestLifecycleScopeProvider.TestLifecycle.STARTED;
+import static autodispose2.lifecycle.TestLifecycleScopeProvider.TestLifecycle.STOPPED;
+import static com.google.common.truth.Truth.assertThat;
+
+import autodispose2.lifecycle.TestLifecycleScopeProvider.TestLifecycle;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public final class LifecycleGatingTest {
+
+  @Test
+  public void conflate_deliversLatestOnceActive() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o =
+        source.compose(conflateWhileInactive(lifecycle, STARTED, STOPPED)).test();
+
+    source.onNext(1);
+    source.onNext(2);
+    o.assertNoValues();
+
+    lifecycle.start();
+    o.assertValues(2);
+    source.onNext(3);
+    o.assertValues(2, 3);
+  }
+
+  @Test
+  public void conflate_completionWaitsForPendingItem() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o =
+        source.compose(conflateWhileInactive(lifecycle, STARTED, STOPPED)).test();
+
+    lifecycle.stop();
+    source.onNext(1);
+    source.onComplete();
+    o.assertNoValues();
+    o.assertNotComplete();
+
+    lifecycle.start();
+    o.assertValues(1);
+    o.assertComplete();
+  }
+
+  @Test
+  public void conflate_itemsRacingTheActivationDrainAreAllDelivered() throws InterruptedException {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    CountDownLatch delivering = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    TestObserver<Integer> o =
+        source
+            .compose(conflateWhileInactive(lifecycle, STARTED, STOPPED))
+            .doOnNext(
+                value -> {
+                  if (value == 1) {
+                    delivering.countDown();
+                    release.await();
+                  }
+                })
+            .test();
+    source.onNext(1);
+
+    // Starting delivers the held item from the lifecycle's thread, keeping its drain busy.
+    Thread starting = new Thread(lifecycle::start);
+    starting.start();
+    delivering.await();
+    source.onNext(2);
+    source.onNext(3);
+    release.countDown();
+    starting.join();
+
+    o.assertValues(1, 2, 3);
+  }
+
+  @Test
+  public void conflate_itemsQueuedBeforeStoppingAreConflated() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o =
+        source
+            .compose(conflateWhileInactive(lifecycle, STARTED, STOPPED))
+            .doOnNext(
+                value -> {
+                  if (value == 1) {
+                    // Queued while 1 is still being delivered, then stopped before delivering them.
+                    source.onNext(2);
+                    source.onNext(3);
+                    lifecycle.stop();
+                  }
+                })
+            .test();
+
+    source.onNext(1);
+    o.assertValues(1);
+    lifecycle.start();
+    o.assertValues(1, 3);
+  }
+
+  @Test
+  public void dispose_sourceThatKeepsEmittingIsIgnored() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    AtomicReference<Observer<? super Integer>> upstream = new AtomicReference<>();
+    // Keeps emitting after being disposed, like a source that doesn't check for it
+    Observable<Integer> source =
+        Observable.unsafeCreate(
+            observer -> {
+              observer.onSubscribe(Disposable.empty());
+              upstream.set(observer);
+            });
+    TestObserver<Integer> o =
+        source.compose(conflateWhileInactive(lifecycle, STARTED, STOPPED)).test();
+
+    upstream.get().onNext(1);
+    o.dispose();
+    upstream.get().onNext(2);
+    o.assertValues(1);
+  }
+
+  @Test
+  public void gateObserver_sharedDisposedInstanceIsNotMistakenForDisposal() {
+    LifecycleGateObserver<TestLifecycle> observer =
+        new LifecycleGateObserver<>(
+            new LifecycleGateObserver.Gate<TestLifecycle>() {
+              @Override
+              public void onLifecycle(TestLifecycle event) {}
+
+              @Override
+              public void onLifecycleError(Throwable e) {}
+            });
+
+    observer.onSubscribe(Disposable.disposed());
+    assertThat(observer.isDisposed()).isFalse();
+    observer.dispose();
+    assertThat(observer.isDisposed()).isTrue();
+  }
+
+  @Test
+  public void drop_dropsWhileInactive() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.compose(dropWhileInactive(lifecycle, STARTED, STOPPED)).test();
+
+    source.onNext(1);
+    lifecycle.stop();
+    source.onNext(2);
+    lifecycle.start();
+    o.assertValues(1);
+    source.onComplete();
+    o.assertComplete();
+  }
+
+  @Test
+  public void drop_itemQueuedBeforeStoppingNeverHoldsBackCompletion() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o =
+        source
+            .compose(dropWhileInactive(lifecycle, STARTED, STOPPED))
+            .doOnNext(
+                value -> {
+                  if (value == 1) {
+                    // Queued while 1 is still being delivered, then stopped before delivering it.
+                    source.onNext(2);
+                    lifecycle.stop();
+                  }
+                })
+            .test();
+
+    source.onNext(1);
+    source.onComplete();
+    o.assertValues(1);
+    o.assertComplete();
+  }
+
+  @Test
+  public void errorsAreNotHeldBack() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o =
+        source.compose(conflateWhileInactive(lifecycle, STARTED, STOPPED)).test();
+
+    source.onNext(1);
+    source.onError(new IllegalStateException());
+    o.assertNoValues();
+    o.assertError(IllegalStateException.class);
+  }
+
+  @Test
+  public void dispose_disposesSourceAndLifecycle() {
+    PublishSubject<TestLifecycle> events = PublishSubject.create();
+    LifecycleScopeProvider<TestLifecycle> lifecycle = providerOf(events);
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.compose(dropWhileInactive(lifecycle, STARTED, STOPPED)).test();
+    assertThat(source.hasObservers()).isTrue();
+    assertThat(events.hasObservers()).isTrue();
+
+    o.dispose();
+    assertThat(source.hasObservers()).isFalse();
+    assertThat(events.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void pauseDemand_withholdsRequestsWhileInactive() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.createInitial(STARTED);
+    List<Long> requests = new ArrayList<>();
+    TestSubscriber<Integer> ts =
+        Flowable.range(1, 10)
+            .doOnRequest(requests::add)
+            .compose(pauseDemandWhileInactive(lifecycle, STARTED, STOPPED))
+            .test(2);
+    ts.assertValues(1, 2);
+
+    lifecycle.stop();
+    ts.request(3);
+    ts.assertValues(1, 2);
+    assertThat(requests).containsExactly(2L);
+
+    lifecycle.start();
+    ts.assertValues(1, 2, 3, 4, 5);
+    assertThat(requests).containsExactly(2L, 3L).inOrder();
+  }
+
+  @Test
+  public void pauseDemand_notStartedRequestsNothing() {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.create();
+    TestSubscriber<Integer> ts =
+        Flowable.range(1, 3).compose(pauseDemandWhileInactive(lifecycle, STARTED, STOPPED)).test();
+    ts.assertNoValues();
+
+    lifecycle.start();
+    ts.assertValues(1, 2, 3);
+    ts.assertComplete();
+  }
+
+  @Test
+  public void pauseDemand_requestRacingLifecycleIsSerial() throws InterruptedException {
+    TestLifecycleScopeProvider lifecycle = TestLifecycleScopeProvider.create();
+    CountDownLatch requesting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger inRequest = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    List<Long> requests = new CopyOnWriteArrayList<>();
+    TestSubscriber<Integer> ts =
+        Flowable.<Integer>never()
+            .doOnRequest(
+                n -> {
+                  if (inRequest.getAndIncrement() != 0) {
+                    overlaps.incrementAndGet();
+                  }
+                  requests.add(n);
+                  if (requests.size() == 1) {
+                    requesting.countDown();
+                    release.await();
+                  }
+                  inRequest.decrementAndGet();
+                })
+            .compose(pauseDemandWhileInactive(lifecycle, STARTED, STOPPED))
+            .test(1);
+
+    // Starting forwards the first request from the lifecycle's thread and holds it there.
+    Thread starting = new Thread(lifecycle::start);
+    starting.start();
+    requesting.await();
+    ts.request(2);
+    release.countDown();
+    starting.join();
+
+    assertThat(overlaps.get()).isEqualTo(0);
+    assertThat(requests).containsExactly(1L, 2L).inOrder();
+  }
+
+  @Test
+  public void pauseDemand_lifecycleErrorCancelsUpstream() {
+    PublishSubject<TestLifecycle> events = PublishSubject.create();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    TestSubscriber<Integer> ts =
+        source.compose(pauseDemandWhileInactive(providerOf(events), STARTED, STOPPED)).test();
+    assertThat(source.hasSubscribers()).isTrue();
+
+    events.onError(new IllegalStateException());
+    ts.assertError(IllegalStateException.class);
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
+  @Test
+  public void rangeMustNotBeEmpty() {
+    try {
+      dropWhileInactive(TestLifecycleScopeProvider.create(), STOPPED, STARTED);
+      throw new AssertionError("Expected an empty range to be rejected");
+    } catch (IllegalArgumentException ignored) {
+    }
+  }
+
+  private static LifecycleScopeProvider<TestLifecycle> providerOf(
+      Observable<TestLifecycle> events) {
+    return new LifecycleScopeProvider<TestLifecycle>() {
+      @Override
+      public Observable<TestLifecycle> lifecycle() {
+        return events;
+      }
+
+      @Override
+      public CorrespondingEventsFunction<TestLifecycle> correspondingEvents() {
+        return TestLifecycleScopeProvider.create().correspondingEvents();
+      }
+
+      @Override
+      public TestLifecycle peekLifecycle() {
+        return STARTED;
+      }
+    };
+  }
+}
@@ -27,6 +27,7 @@ import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.observers.TestObserver;
 import io.reactivex.rxjava3.subjects.BehaviorSubject;
 import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -102,6 +103,28 @@ public class LifecycleScopeProviderObservableTest {
     assertThat(o.takeError()).isInstanceOf(LifecycleEndedException.class);
   }
 
+  @Test
+  public void autoDispose_withProvider_afterLifecycle_neverSubscribesUpstream() {
+    BehaviorSubject<Integer> lifecycle = BehaviorSubject.createDefault(0);
+    lifecycle.onNext(1);
+    lifecycle.onNext(2);
+    lifecycle.onNext(3);
+    AtomicInteger subscriptions = new AtomicInteger();
+    Observable<Integer> source =
+        Observable.defer(
+            () -> {
+              subscriptions.incrementAndGet();
+              return Observable.never();
+            });
+    RecordingObserver<Integer> o = new RecordingObserver<>(LOGGER);
+    LifecycleScopeProvider<Integer> provider = makeLifecycleProvider(lifecycle);
+    source.to(autoDisposable(provider)).subscribe(o);
+
+    o.takeSubscribe();
+    assertThat(o.takeError()).isInstanceOf(LifecycleEndedException.class);
+    assertThat(subscriptions.get()).isEqualTo(0);
+  }
+
   @Test
   public void autoDispose_withProviderAndNoOpPlugin_withoutStarting_shouldFailSilently() {
     AutoDisposePlugins.setOutsideScopeHandler(e -> {});
@@ -17,6 +17,7 @@ package autodispose2.lifecycle;
 
 import static autodispose2.lifecycle.LifecycleScopes.resolveScopeFromLifecycle;
 import static autodispose2.lifecycle.TestLifecycleScopeProvider.TestLifecycle.STOPPED;
+import static com.google.common.truth.Truth.assertThat;
 
 import autodispose2.AutoDisposePlugins;
 import io.reactivex.rxjava3.core.CompletableSource;
@@ -283,6 +284,43 @@ public final class LifecycleScopesTest {
     o.assertError(expected);
   }
 
+  @Test
+  public void resolveScopeFromLifecycle_enum_comparesOrdinals() {
+    PublishSubject<TestLifecycleScopeProvider.TestLifecycle> lifecycle = PublishSubject.create();
+
+    TestObserver<?> o = testSource(resolveScopeFromLifecycle(lifecycle, STOPPED));
+
+    // The first (current) event is always skipped, even if it's the end event.
+    lifecycle.onNext(STOPPED);
+    o.assertNoErrors().assertNotComplete();
+    lifecycle.onNext(TestLifecycleScopeProvider.TestLifecycle.STARTED);
+    o.assertNoErrors().assertNotComplete();
+
+    lifecycle.onNext(STOPPED);
+    o.assertComplete();
+    assertThat(lifecycle.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void resolveScopeFromLifecycle_throwingComparator() {
+    PublishSubject<Integer> lifecycle = PublishSubject.create();
+    RuntimeException expected = new RuntimeException("Expected");
+
+    TestObserver<?> o =
+        testSource(
+            resolveScopeFromLifecycle(
+                lifecycle,
+                3,
+                (a, b) -> {
+                  throw expected;
+                }));
+
+    lifecycle.onNext(0);
+    lifecycle.onNext(1);
+    o.assertError(expected);
+    assertThat(lifecycle.hasObservers()).isFalse();
+  }
+
   private static TestObserver<Object> testSource(CompletableSource source) {
     TestObserver<Object> o = new TestObserver<>();
     source.subscribe(o);
@@ -18,6 +18,7 @@ package autodispose2;
 
 import io.reactivex.rxjava3.disposables.Disposable;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Utility methods for working with Disposables atomically. Copied from the RxJava implementation.
@@ -49,6 +50,29 @@ enum AutoDisposableHelper implements Disposable {
     return false;
   }
 
+  /**
+   * Atomically disposes the Disposable in the updater's field if not already disposed.
+   *
+   * @param <O> the type holding the field
+   * @param field the updater of the target field
+   * @param instance the instance holding the target field
+   * @return true if the current thread managed to dispose the Disposable
+   */
+  static <O> boolean dispose(AtomicReferenceFieldUpdater<O, Disposable> field, O instance) {
+    Disposable current = field.get(instance);
+    Disposable d = DISPOSED;
+    if (current != d) {
+      current = field.getAndSet(instance, d);
+      if (current != d) {
+        if (current != null) {
+          current.dispose();
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override public void dispose() {
     // deliberately no-op
   }
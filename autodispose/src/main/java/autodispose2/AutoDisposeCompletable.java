@@ -15,9 +15,15 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.CompletableObserver;
 import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
 
 final class AutoDisposeCompletable extends Completable implements CompletableSubscribeProxy {
 
@@ -31,6 +37,31 @@ final class AutoDisposeCompletable extends Completable implements CompletableSub
 
   @Override
   protected void subscribeActual(CompletableObserver completableObserver) {
-    source.subscribe(new AutoDisposingCompletableObserverImpl(scope, completableObserver));
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    subscribeUnlessEnded(
+        scope, new AutoDisposingCompletableObserverImpl(scope, completableObserver));
+  }
+
+  /**
+   * Subscribes a fused {@link AutoDisposingLambdaCompletableObserver}, rather than the {@code
+   * subscribe} overloads wrapping RxJava's own callback observer in an {@link
+   * AutoDisposingCompletableObserverImpl}.
+   */
+  Disposable subscribeLambda(Action onComplete, @Nullable Consumer<? super Throwable> onError) {
+    checkNotNull(onComplete, "onComplete is null");
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingLambdaCompletableObserver o =
+        new AutoDisposingLambdaCompletableObserver(scope, onComplete, onError);
+    subscribeUnlessEnded(scope, o);
+    return o;
+  }
+
+  private void subscribeUnlessEnded(CompletableSource scope, CompletableObserver o) {
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to dispose it right away
+      o.onSubscribe(Disposable.empty());
+    } else {
+      source.subscribe(o);
+    }
   }
 }
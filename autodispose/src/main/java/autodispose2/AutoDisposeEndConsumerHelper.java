@@ -18,6 +18,7 @@ import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.exceptions.ProtocolViolationException;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.reactivestreams.Subscription;
 
 /**
@@ -59,6 +60,31 @@ final class AutoDisposeEndConsumerHelper {
     return true;
   }
 
+  /**
+   * Atomically updates the updater's target field from null to the non-null
+   * next Disposable, otherwise disposes next and reports a ProtocolViolationException
+   * if the field doesn't contain the shared disposed indicator.
+   *
+   * @param <O> the type holding the field
+   * @param upstream the updater of the target field
+   * @param instance the instance holding the target field
+   * @param next the Disposable to set on it atomically
+   * @param observer the class of the consumer to have a personalized
+   * error message if the upstream already contains a non-cancelled Disposable.
+   * @return true if successful, false if the content of the field was non null
+   */
+  public static <O> boolean setOnce(AtomicReferenceFieldUpdater<O, Disposable> upstream, O instance, Disposable next, Class<?> observer) {
+    AutoDisposeUtil.checkNotNull(next, "next is null");
+    if (!upstream.compareAndSet(instance, null, next)) {
+      next.dispose();
+      if (upstream.get(instance) != AutoDisposableHelper.DISPOSED) {
+        reportDoubleSubscription(observer);
+      }
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Atomically updates the target upstream AtomicReference from null to the non-null
    * next Subscription, otherwise cancels next and reports a ProtocolViolationException
@@ -15,9 +15,15 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
@@ -25,14 +31,62 @@ final class AutoDisposeFlowable<@NonNull T> extends Flowable<T>
     implements FlowableSubscribeProxy<T> {
   private final Publisher<T> source;
   private final CompletableSource scope;
+  /**
+   * Whether each subscriber's delegate is held weakly, as for {@link
+   * AutoDispose#weakAutoDisposable(CompletableSource)}.
+   */
+  private final boolean weakDelegates;
 
   AutoDisposeFlowable(Publisher<T> source, CompletableSource scope) {
+    this(source, scope, false);
+  }
+
+  AutoDisposeFlowable(Publisher<T> source, CompletableSource scope, boolean weakDelegates) {
     this.source = source;
     this.scope = scope;
+    this.weakDelegates = weakDelegates;
   }
 
   @Override
   protected void subscribeActual(Subscriber<? super T> observer) {
-    source.subscribe(new AutoDisposingSubscriberImpl<>(scope, observer));
+    Subscriber<? super T> delegate =
+        weakDelegates ? new WeakDelegateSubscriber<>(observer) : observer;
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    subscribeUnlessEnded(scope, AutoDisposingSubscriberImpl.create(scope, delegate));
+  }
+
+  /**
+   * Subscribes a fused {@link AutoDisposingLambdaSubscriber}, rather than the {@code subscribe}
+   * overloads wrapping RxJava's own lambda subscriber in an {@link AutoDisposingSubscriberImpl}.
+   */
+  Disposable subscribeLambda(
+      Consumer<? super T> onNext,
+      @Nullable Consumer<? super Throwable> onError,
+      @Nullable Action onComplete) {
+    checkNotNull(onNext, "onNext is null");
+    if (weakDelegates) {
+      // Through RxJava's own lambda subscriber, which is then held weakly like any other, so that
+      // it's the returned Disposable that has to be kept reachable.
+      if (onError == null) {
+        return subscribe(onNext);
+      } else if (onComplete == null) {
+        return subscribe(onNext, onError);
+      }
+      return subscribe(onNext, onError, onComplete);
+    }
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingLambdaSubscriber<T> s =
+        new AutoDisposingLambdaSubscriber<>(scope, onNext, onError, onComplete);
+    subscribeUnlessEnded(scope, s);
+    return s;
+  }
+
+  private void subscribeUnlessEnded(CompletableSource scope, Subscriber<? super T> s) {
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to cancel it right away
+      s.onSubscribe(EndedScopes.NoUpstream.INSTANCE);
+    } else {
+      source.subscribe(s);
+    }
   }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/**
+ * Receives lifecycle callbacks from every AutoDispose observer, for metrics and diagnostics.
+ * Install one via {@link AutoDisposePlugins#setListener(AutoDisposeListener)}.
+ *
+ * <p>Every AutoDispose subscription reports one {@link #onSubscribe}, normally followed by one of
+ * {@link #onScopeDispose}, {@link #onUpstreamTerminate} or {@link #onDispose}, whichever ended it
+ * first. The {@code observer} passed to each is the AutoDispose observer itself, so it can be used
+ * as an identity key to track a subscription's lifetime.
+ *
+ * <p>Callbacks are invoked synchronously on whatever thread the event happens on, often a hot path
+ * such as the main thread, so implementations should be cheap, thread-safe and must not throw.
+ * When no listener is installed, each of these call sites costs a single volatile read.
+ */
+public interface AutoDisposeListener {
+
+  /**
+   * Called when an AutoDispose observer is subscribed to its upstream, before it subscribes to
+   * {@code scope}.
+   *
+   * @param observer the AutoDispose observer
+   * @param scope the scope the observer is bound to
+   */
+  default void onSubscribe(Disposable observer, CompletableSource scope) {}
+
+  /**
+   * Called when the end of its scope (or an error from it) disposed an AutoDispose observer's
+   * upstream.
+   *
+   * @param observer the AutoDispose observer
+   */
+  default void onScopeDispose(Disposable observer) {}
+
+  /**
+   * Called when the upstream of an AutoDispose observer terminated by itself, with a success,
+   * completion or error.
+   *
+   * @param observer the AutoDispose observer
+   */
+  default void onUpstreamTerminate(Disposable observer) {}
+
+  /**
+   * Called when an AutoDispose observer was disposed (or cancelled) by its downstream.
+   *
+   * @param observer the AutoDispose observer
+   */
+  default void onDispose(Disposable observer) {}
+
+  /**
+   * Called when a scope couldn't be resolved because it was requested outside of its bounds, before
+   * the {@link AutoDisposePlugins#getOutsideScopeHandler() outside scope handler} (if any) is
+   * invoked.
+   *
+   * @param e the exception
+   */
+  default void onOutsideScope(OutsideScopeException e) {}
+}
@@ -15,11 +15,17 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.MaybeObserver;
 import io.reactivex.rxjava3.core.MaybeSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
 
 final class AutoDisposeMaybe<@NonNull T> extends Maybe<T> implements MaybeSubscribeProxy<T> {
   private final MaybeSource<T> source;
@@ -32,6 +38,32 @@ final class AutoDisposeMaybe<@NonNull T> extends Maybe<T> implements MaybeSubscr
 
   @Override
   protected void subscribeActual(MaybeObserver<? super T> observer) {
-    source.subscribe(new AutoDisposingMaybeObserverImpl<>(scope, observer));
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    subscribeUnlessEnded(scope, new AutoDisposingMaybeObserverImpl<>(scope, observer));
+  }
+
+  /**
+   * Subscribes a fused {@link AutoDisposingLambdaMaybeObserver}, rather than the {@code subscribe}
+   * overloads wrapping RxJava's own callback observer in an {@link AutoDisposingMaybeObserverImpl}.
+   */
+  Disposable subscribeLambda(
+      Consumer<? super T> onSuccess,
+      @Nullable Consumer<? super Throwable> onError,
+      @Nullable Action onComplete) {
+    checkNotNull(onSuccess, "onSuccess is null");
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingLambdaMaybeObserver<T> o =
+        new AutoDisposingLambdaMaybeObserver<>(scope, onSuccess, onError, onComplete);
+    subscribeUnlessEnded(scope, o);
+    return o;
+  }
+
+  private void subscribeUnlessEnded(CompletableSource scope, MaybeObserver<? super T> o) {
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to dispose it right away
+      o.onSubscribe(Disposable.empty());
+    } else {
+      source.subscribe(o);
+    }
   }
 }
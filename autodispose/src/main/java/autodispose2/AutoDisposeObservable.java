@@ -15,24 +15,78 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.ObservableSource;
 import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
 
 final class AutoDisposeObservable<@NonNull T> extends Observable<T>
     implements ObservableSubscribeProxy<T> {
   private final ObservableSource<T> source;
   private final CompletableSource scope;
+  /**
+   * Whether each observer's delegate is held weakly, as for {@link
+   * AutoDispose#weakAutoDisposable(CompletableSource)}.
+   */
+  private final boolean weakDelegates;
 
   AutoDisposeObservable(ObservableSource<T> source, CompletableSource scope) {
+    this(source, scope, false);
+  }
+
+  AutoDisposeObservable(
+      ObservableSource<T> source, CompletableSource scope, boolean weakDelegates) {
     this.source = source;
     this.scope = scope;
+    this.weakDelegates = weakDelegates;
   }
 
   @Override
   protected void subscribeActual(Observer<? super T> observer) {
-    source.subscribe(new AutoDisposingObserverImpl<>(scope, observer));
+    Observer<? super T> delegate = weakDelegates ? new WeakDelegateObserver<>(observer) : observer;
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    subscribeUnlessEnded(scope, new AutoDisposingObserverImpl<>(scope, delegate));
+  }
+
+  /**
+   * Subscribes a fused {@link AutoDisposingLambdaObserver}, rather than the {@code subscribe}
+   * overloads wrapping RxJava's own lambda observer in an {@link AutoDisposingObserverImpl}.
+   */
+  Disposable subscribeLambda(
+      Consumer<? super T> onNext,
+      @Nullable Consumer<? super Throwable> onError,
+      @Nullable Action onComplete) {
+    checkNotNull(onNext, "onNext is null");
+    if (weakDelegates) {
+      // Through RxJava's own lambda observer, which is then held weakly like any other, so that
+      // it's the returned Disposable that has to be kept reachable.
+      if (onError == null) {
+        return subscribe(onNext);
+      } else if (onComplete == null) {
+        return subscribe(onNext, onError);
+      }
+      return subscribe(onNext, onError, onComplete);
+    }
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingLambdaObserver<T> o =
+        new AutoDisposingLambdaObserver<>(scope, onNext, onError, onComplete);
+    subscribeUnlessEnded(scope, o);
+    return o;
+  }
+
+  private void subscribeUnlessEnded(CompletableSource scope, Observer<? super T> o) {
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to dispose it right away
+      o.onSubscribe(Disposable.empty());
+    } else {
+      source.subscribe(o);
+    }
   }
 }
@@ -39,12 +39,20 @@ final class AutoDisposeParallelFlowable<@NonNull T> extends ParallelFlowable<T>
 
     @SuppressWarnings("unchecked")
     Subscriber<? super T>[] newSubscribers = new Subscriber[subscribers.length];
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingRailGroup group = new AutoDisposingRailGroup(scope, subscribers.length);
     for (int i = 0; i < subscribers.length; i++) {
-      AutoDisposingSubscriberImpl<? super T> subscriber =
-          new AutoDisposingSubscriberImpl<>(scope, subscribers[i]);
-      newSubscribers[i] = subscriber;
+      newSubscribers[i] = group.subscriber(i, subscribers[i]);
+    }
+    group.connect();
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to cancel it right away
+      for (Subscriber<? super T> subscriber : newSubscribers) {
+        subscriber.onSubscribe(EndedScopes.NoUpstream.INSTANCE);
+      }
+    } else {
+      source.subscribe(newSubscribers);
     }
-    source.subscribe(newSubscribers);
   }
 
   @Override
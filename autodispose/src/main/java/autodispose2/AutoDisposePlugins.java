@@ -16,8 +16,13 @@
 package autodispose2;
 
 import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.TimeUnit;
 
 /** Utility class to inject handlers to certain standard autodispose-lifecycle operations. */
 public final class AutoDisposePlugins {
@@ -27,6 +32,10 @@ public final class AutoDisposePlugins {
   @Nullable private static volatile Consumer<? super OutsideScopeException> outsideScopeHandler;
   static volatile boolean fillInOutsideScopeExceptionStacktraces;
   static volatile boolean hideProxies = true;
+  static volatile boolean scopeErrorsToRxJavaPlugins;
+  @Nullable static volatile Scheduler scopeEndDisposalScheduler;
+  @Nullable static volatile AutoDisposeListener listener;
+  static volatile long scopeEndDisposalBudgetNanos;
 
   /** Prevents changing the plugins. */
   static volatile boolean lockdown;
@@ -58,6 +67,16 @@ public final class AutoDisposePlugins {
     return hideProxies;
   }
 
+  /**
+   * Returns the value indicating whether scope errors are sent to {@link RxJavaPlugins#onError}
+   * rather than downstream.
+   *
+   * @see #setScopeErrorsToRxJavaPlugins(boolean)
+   */
+  public static boolean getScopeErrorsToRxJavaPlugins() {
+    return scopeErrorsToRxJavaPlugins;
+  }
+
   /**
    * Returns the value indicating whether or not to fill in stacktraces in {@link
    * OutsideScopeException}.
@@ -66,6 +85,37 @@ public final class AutoDisposePlugins {
     return fillInOutsideScopeExceptionStacktraces;
   }
 
+  /**
+   * Returns the scheduler that upstream disposals triggered by a scope's end are batched onto, if
+   * any.
+   *
+   * @see #setScopeEndDisposalScheduler(Scheduler)
+   */
+  @Nullable
+  public static Scheduler getScopeEndDisposalScheduler() {
+    return scopeEndDisposalScheduler;
+  }
+
+  /**
+   * Returns the time budget of each batch of scope end disposals in the given unit, or 0 if there
+   * is none.
+   *
+   * @see #setScopeEndDisposalTimeBudget(long, TimeUnit)
+   */
+  public static long getScopeEndDisposalTimeBudget(TimeUnit unit) {
+    return unit.convert(scopeEndDisposalBudgetNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the installed {@link AutoDisposeListener}, if any.
+   *
+   * @see #setListener(AutoDisposeListener)
+   */
+  @Nullable
+  public static AutoDisposeListener getListener() {
+    return listener;
+  }
+
   /** Returns the value for handling {@link OutsideScopeException}. */
   @Nullable
   public static Consumer<? super OutsideScopeException> getOutsideScopeHandler() {
@@ -105,8 +155,119 @@ public final class AutoDisposePlugins {
     AutoDisposePlugins.hideProxies = hideProxies;
   }
 
+  /**
+   * Sets whether errors from scopes are sent to {@link RxJavaPlugins#onError} instead of
+   * downstream. The default is {@code false}.
+   *
+   * <p>When enabled, a scope that errors disposes its streams just like one that completes, and the
+   * error goes to {@link RxJavaPlugins#onError}. Since nothing but the upstream can then signal the
+   * downstream, {@code Observable} and {@code Flowable} streams don't need to serialize each item
+   * against a concurrent scope error, and their per-item path drops to a single volatile read.
+   * Enable this if your scopes only ever complete, such as most lifecycle scopes. It only applies
+   * to streams subscribed after it's set.
+   */
+  public static void setScopeErrorsToRxJavaPlugins(boolean scopeErrorsToRxJavaPlugins) {
+    if (lockdown) {
+      throw new IllegalStateException("Plugins can't be changed anymore");
+    }
+    AutoDisposePlugins.scopeErrorsToRxJavaPlugins = scopeErrorsToRxJavaPlugins;
+  }
+
+  /**
+   * Sets a {@link Scheduler} to batch the upstream disposals triggered by scopes ending, null
+   * allowed. The default is null, which disposes each upstream synchronously as its scope ends.
+   *
+   * <p>When set, a stream whose scope ends is still marked as disposed immediately and stops
+   * delivering events downstream, but disposing its upstream is deferred. All disposals queued
+   * before the pending batch runs, such as every stream bound to a lifecycle that was just
+   * destroyed, are disposed together in one task on this scheduler, in chunks if {@link
+   * #setScopeEndDisposalTimeBudget(long, TimeUnit)} is set. Use the main thread scheduler with a
+   * time budget to spread a large teardown over several frames, or a background scheduler if the
+   * upstreams can be disposed from any thread.
+   */
+  public static void setScopeEndDisposalScheduler(@Nullable Scheduler scheduler) {
+    if (lockdown) {
+      throw new IllegalStateException("Plugins can't be changed anymore");
+    }
+    scopeEndDisposalScheduler = scheduler;
+  }
+
+  /**
+   * Sets how long each batch of scope end disposals may run on the {@link
+   * #setScopeEndDisposalScheduler(Scheduler) scope end disposal scheduler} before rescheduling
+   * itself for the rest. 0 (the default) disposes the whole batch in one go.
+   */
+  public static void setScopeEndDisposalTimeBudget(long time, TimeUnit unit) {
+    if (lockdown) {
+      throw new IllegalStateException("Plugins can't be changed anymore");
+    }
+    if (time < 0) {
+      throw new IllegalArgumentException("time < 0: " + time);
+    }
+    scopeEndDisposalBudgetNanos = unit.toNanos(time);
+  }
+
+  /**
+   * Sets an {@link AutoDisposeListener} to be notified of every AutoDispose subscription's
+   * lifecycle, null allowed. The default is null.
+   */
+  public static void setListener(@Nullable AutoDisposeListener listener) {
+    if (lockdown) {
+      throw new IllegalStateException("Plugins can't be changed anymore");
+    }
+    AutoDisposePlugins.listener = listener;
+  }
+
   /** Removes all handlers and resets to default behavior. */
   public static void reset() {
     setOutsideScopeHandler(null);
+    setListener(null);
+    setScopeErrorsToRxJavaPlugins(false);
+    setScopeEndDisposalScheduler(null);
+    setScopeEndDisposalTimeBudget(0, TimeUnit.NANOSECONDS);
+  }
+
+  /*
+   * Listener hooks for the AutoDisposing*Impls. Each is a single volatile read when no listener is
+   * installed.
+   */
+
+  static void onSubscribe(Disposable observer, CompletableSource scope) {
+    AutoDisposeListener l = listener;
+    if (l != null) {
+      if (scope instanceof AutoDisposingRailGroup.Rail) {
+        // Report the scope the user handed in rather than the rail's internal view of it
+        scope = ((AutoDisposingRailGroup.Rail) scope).scope();
+      }
+      l.onSubscribe(observer, scope);
+    }
+  }
+
+  static void onScopeDispose(Disposable observer) {
+    AutoDisposeListener l = listener;
+    if (l != null) {
+      l.onScopeDispose(observer);
+    }
+  }
+
+  static void onUpstreamTerminate(Disposable observer) {
+    AutoDisposeListener l = listener;
+    if (l != null) {
+      l.onUpstreamTerminate(observer);
+    }
+  }
+
+  static void onDispose(Disposable observer) {
+    AutoDisposeListener l = listener;
+    if (l != null) {
+      l.onDispose(observer);
+    }
+  }
+
+  static void onOutsideScope(OutsideScopeException e) {
+    AutoDisposeListener l = listener;
+    if (l != null) {
+      l.onOutsideScope(e);
+    }
   }
 }
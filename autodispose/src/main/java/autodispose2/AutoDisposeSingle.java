@@ -15,11 +15,16 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.core.SingleObserver;
 import io.reactivex.rxjava3.core.SingleSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Consumer;
 
 final class AutoDisposeSingle<@NonNull T> extends Single<T> implements SingleSubscribeProxy<T> {
   private final SingleSource<T> source;
@@ -32,6 +37,31 @@ final class AutoDisposeSingle<@NonNull T> extends Single<T> implements SingleSub
 
   @Override
   protected void subscribeActual(SingleObserver<? super T> observer) {
-    source.subscribe(new AutoDisposingSingleObserverImpl<>(scope, observer));
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    subscribeUnlessEnded(scope, new AutoDisposingSingleObserverImpl<>(scope, observer));
+  }
+
+  /**
+   * Subscribes a fused {@link AutoDisposingLambdaSingleObserver}, rather than the {@code subscribe}
+   * overloads wrapping RxJava's own consumer observer in an {@link
+   * AutoDisposingSingleObserverImpl}.
+   */
+  Disposable subscribeLambda(
+      Consumer<? super T> onSuccess, @Nullable Consumer<? super Throwable> onError) {
+    checkNotNull(onSuccess, "onSuccess is null");
+    CompletableSource scope = EndedScopes.resolve(this.scope);
+    AutoDisposingLambdaSingleObserver<T> o =
+        new AutoDisposingLambdaSingleObserver<>(scope, onSuccess, onError);
+    subscribeUnlessEnded(scope, o);
+    return o;
+  }
+
+  private void subscribeUnlessEnded(CompletableSource scope, SingleObserver<? super T> o) {
+    if (EndedScopes.hasEnded(scope)) {
+      // Don't start the upstream's work only to dispose it right away
+      o.onSubscribe(Disposable.empty());
+    } else {
+      source.subscribe(o);
+    }
   }
 }
@@ -16,12 +16,17 @@
 package autodispose2;
 
 import autodispose2.observers.AutoDisposingCompletableObserver;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableObserver;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * The delegate and the scope are released once this has terminated or been disposed, as the
+ * upstream may well keep referencing this for longer than that.
+ */
 final class AutoDisposingCompletableObserverImpl implements AutoDisposingCompletableObserver {
 
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
@@ -30,8 +35,8 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
   final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
 
-  private final CompletableSource scope;
-  private final CompletableObserver delegate;
+  @Nullable private volatile CompletableSource scope;
+  private volatile CompletableObserver delegate;
 
   AutoDisposingCompletableObserverImpl(CompletableSource scope, CompletableObserver delegate) {
     this.scope = scope;
@@ -40,7 +45,7 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
 
   @Override
   public CompletableObserver delegateObserver() {
-    return delegate;
+    return ReleasedDelegate.unwrap(delegate);
   }
 
   @Override
@@ -50,22 +55,37 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
           @Override
           public void onError(Throwable e) {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposingCompletableObserverImpl.this.onError(e);
+            onScopeError(e);
           }
 
           @Override
           public void onComplete() {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposableHelper.dispose(mainDisposable);
+            if (ScopeEndDisposals.dispose(mainDisposable)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingCompletableObserverImpl.this);
+              release();
+            }
           }
         };
-    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass())) {
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
       delegate.onSubscribe(this);
       scope.subscribe(o);
       AutoDisposeEndConsumerHelper.setOnce(mainDisposable, d, getClass());
     }
   }
 
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.dispose(mainDisposable)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      delegate.onError(e);
+      release();
+    }
+  }
+
   @Override
   public boolean isDisposed() {
     return mainDisposable.get() == AutoDisposableHelper.DISPOSED;
@@ -74,7 +94,15 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
   @Override
   public void dispose() {
     AutoDisposableHelper.dispose(scopeDisposable);
-    AutoDisposableHelper.dispose(mainDisposable);
+    if (AutoDisposableHelper.dispose(mainDisposable)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  private void release() {
+    delegate = ReleasedDelegate.of(delegate);
+    scope = null;
   }
 
   @Override
@@ -82,7 +110,9 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onComplete();
+      release();
     }
   }
 
@@ -91,7 +121,9 @@ final class AutoDisposingCompletableObserverImpl implements AutoDisposingComplet
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onError(e);
+      release();
     }
   }
 }
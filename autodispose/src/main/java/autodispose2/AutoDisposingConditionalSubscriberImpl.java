@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+
+/**
+ * {@link AutoDisposingSubscriberImpl} for delegates that are {@link ConditionalSubscriber}s. This
+ * is itself conditional, so sources and operators like {@code range} or {@code filter} upstream
+ * can hand values to {@link #tryOnNext(Object)} and skip the {@code request(1)} replenishment for
+ * each value the delegate rejects.
+ */
+final class AutoDisposingConditionalSubscriberImpl<@NonNull T>
+    extends AutoDisposingSubscriberImpl<T> implements ConditionalSubscriber<T> {
+
+  private volatile ConditionalSubscriber<? super T> conditionalDelegate;
+
+  AutoDisposingConditionalSubscriberImpl(
+      CompletableSource scope, ConditionalSubscriber<? super T> delegate) {
+    super(scope, delegate);
+    this.conditionalDelegate = delegate;
+  }
+
+  @Override
+  void release() {
+    super.release();
+    conditionalDelegate = ReleasedDelegate.EMPTY;
+  }
+
+  @Override
+  public boolean tryOnNext(T value) {
+    ConditionalSubscriber<? super T> conditionalDelegate = this.conditionalDelegate;
+    if (!serialized) {
+      return !isDisposed() && conditionalDelegate.tryOnNext(value);
+    }
+    if (!isDisposed() && get() == 0 && compareAndSet(0, 1)) {
+      boolean accepted = conditionalDelegate.tryOnNext(value);
+      if (decrementAndGet() != 0) {
+        // Terminal event arrived while emitting, forward it and clean up here
+        mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
+        AutoDisposableHelper.dispose(scopeDisposable);
+        release();
+        Throwable ex = error.terminate();
+        if (ex != null) {
+          conditionalDelegate.onError(ex);
+        } else {
+          conditionalDelegate.onComplete();
+        }
+        return false;
+      }
+      return accepted;
+    }
+    return false;
+  }
+}
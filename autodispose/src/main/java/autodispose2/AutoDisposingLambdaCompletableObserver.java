@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
+import io.reactivex.rxjava3.observers.LambdaConsumerIntrospection;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link AutoDisposingCompletableObserverImpl} fused with the callbacks of {@link
+ * CompletableSubscribeProxy#subscribe(Action, Consumer)} and {@link
+ * CompletableSubscribeProxy#subscribe(Action)}, in place of an {@code
+ * AutoDisposingCompletableObserverImpl} wrapping one of RxJava's callback observers.
+ */
+final class AutoDisposingLambdaCompletableObserver
+    implements CompletableObserver, Disposable, LambdaConsumerIntrospection {
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  final AtomicReference<Disposable> mainDisposable = new AtomicReference<>();
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
+
+  // The callbacks and the scope are released once this has terminated or been disposed, as the
+  // upstream may keep referencing this for longer than that.
+  @Nullable private volatile CompletableSource scope;
+  private volatile Action onComplete;
+  @Nullable private volatile Consumer<? super Throwable> onError;
+  private final boolean customOnError;
+
+  AutoDisposingLambdaCompletableObserver(
+      CompletableSource scope, Action onComplete, @Nullable Consumer<? super Throwable> onError) {
+    this.scope = scope;
+    this.onComplete = onComplete;
+    this.onError = onError;
+    this.customOnError = onError != null;
+  }
+
+  @Override
+  public void onSubscribe(final Disposable d) {
+    DisposableCompletableObserver o =
+        new DisposableCompletableObserver() {
+          @Override
+          public void onError(Throwable e) {
+            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+            onScopeError(e);
+          }
+
+          @Override
+          public void onComplete() {
+            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+            if (ScopeEndDisposals.dispose(mainDisposable)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingLambdaCompletableObserver.this);
+              release();
+            }
+          }
+        };
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
+      scope.subscribe(o);
+      AutoDisposeEndConsumerHelper.setOnce(mainDisposable, d, getClass());
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.dispose(mainDisposable)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      LambdaCallbacks.error(onError, e);
+      release();
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return mainDisposable.get() == AutoDisposableHelper.DISPOSED;
+  }
+
+  @Override
+  public void dispose() {
+    AutoDisposableHelper.dispose(scopeDisposable);
+    if (AutoDisposableHelper.dispose(mainDisposable)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  @Override
+  public boolean hasCustomOnError() {
+    return customOnError;
+  }
+
+  /**
+   * Drops the references to the callbacks and the scope. A callback that was already read keeps
+   * running, as each signal reads the callback it needs only once.
+   */
+  private void release() {
+    onComplete = LambdaCallbacks.RELEASED_ACTION;
+    onError = LambdaCallbacks.RELEASED_ERROR_CONSUMER;
+    scope = null;
+  }
+
+  @Override
+  public void onComplete() {
+    if (!isDisposed()) {
+      mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      LambdaCallbacks.complete(onComplete);
+      release();
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    if (!isDisposed()) {
+      mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      LambdaCallbacks.error(onError, e);
+      release();
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.observers.LambdaConsumerIntrospection;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * {@link AutoDisposingObserverImpl} fused with the callbacks of {@link
+ * ObservableSubscribeProxy#subscribe(Consumer, Consumer, Action)} and its shorter overloads, in
+ * place of an {@code AutoDisposingObserverImpl} wrapping one of RxJava's lambda observers. It
+ * handles throwing callbacks like RxJava does: a throwing {@code onNext} disposes the stream and
+ * goes to {@code onError}, and a missing {@code onError} reports an {@link
+ * io.reactivex.rxjava3.exceptions.OnErrorNotImplementedException}.
+ */
+@SuppressWarnings("rawtypes") // Field updaters can't be created for a generic type
+final class AutoDisposingLambdaObserver<@NonNull T> extends AtomicInteger
+    implements Observer<T>, Disposable, LambdaConsumerIntrospection {
+
+  private static final AtomicReferenceFieldUpdater<AutoDisposingLambdaObserver, Disposable> MAIN =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingLambdaObserver.class, Disposable.class, "mainDisposable");
+
+  private static final AtomicReferenceFieldUpdater<AutoDisposingLambdaObserver, Disposable> SCOPE =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingLambdaObserver.class, Disposable.class, "scopeDisposable");
+
+  private static final AtomicReferenceFieldUpdater<AutoDisposingLambdaObserver, Throwable> ERROR =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingLambdaObserver.class, Throwable.class, "error");
+
+  @Nullable private volatile Disposable mainDisposable;
+  @Nullable private volatile Disposable scopeDisposable;
+  @Nullable private volatile Throwable error;
+  // The callbacks and the scope are released once this has terminated or been disposed, as the
+  // upstream may keep referencing this for longer than that.
+  @Nullable private volatile CompletableSource scope;
+  private volatile Consumer<? super T> onNext;
+  @Nullable private volatile Consumer<? super Throwable> onError;
+  @Nullable private volatile Action onComplete;
+  private final boolean customOnError;
+  /** Whether scope errors go to {@link #onError}, and so each item has to be serialized. */
+  private final boolean serialized = !AutoDisposePlugins.scopeErrorsToRxJavaPlugins;
+
+  AutoDisposingLambdaObserver(
+      CompletableSource scope,
+      Consumer<? super T> onNext,
+      @Nullable Consumer<? super Throwable> onError,
+      @Nullable Action onComplete) {
+    this.scope = scope;
+    this.onNext = onNext;
+    this.onError = onError;
+    this.onComplete = onComplete;
+    this.customOnError = onError != null;
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(MAIN, this, d, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
+      scope.subscribe(new ScopeObserver(this));
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeSubscribe(Disposable d) {
+    AutoDisposeEndConsumerHelper.setOnce(SCOPE, this, d, getClass());
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeComplete() {
+    SCOPE.lazySet(this, AutoDisposableHelper.DISPOSED);
+    if (ScopeEndDisposals.dispose(MAIN, this)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      release();
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    SCOPE.lazySet(this, AutoDisposableHelper.DISPOSED);
+    if (ScopeEndDisposals.dispose(MAIN, this)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      if (serialized) {
+        serializedError(e);
+      } else {
+        RxJavaPlugins.onError(e);
+        release();
+      }
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return mainDisposable == AutoDisposableHelper.DISPOSED;
+  }
+
+  @Override
+  public void dispose() {
+    AutoDisposableHelper.dispose(SCOPE, this);
+    if (AutoDisposableHelper.dispose(MAIN, this)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  @Override
+  public boolean hasCustomOnError() {
+    return customOnError;
+  }
+
+  /**
+   * Drops the references to the callbacks and the scope. A callback that was already read keeps
+   * running, as each signal reads the callback it needs only once.
+   */
+  private void release() {
+    onNext = LambdaCallbacks.RELEASED_CONSUMER;
+    onError = LambdaCallbacks.RELEASED_ERROR_CONSUMER;
+    onComplete = LambdaCallbacks.RELEASED_ACTION;
+    scope = null;
+  }
+
+  @Override
+  public void onNext(T value) {
+    if (!isDisposed()) {
+      if (!serialized) {
+        next(value);
+      } else if (get() == 0 && compareAndSet(0, 1)) {
+        next(value);
+        if (decrementAndGet() != 0) {
+          // Terminal event occurred while emitting, so forward it and clean up here
+          MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+          AutoDisposableHelper.dispose(SCOPE, this);
+          terminate();
+        }
+      }
+    }
+  }
+
+  private void next(T value) {
+    try {
+      onNext.accept(value);
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      // Upstream didn't terminate, so this is reported as a dispose rather than going to onError
+      AutoDisposableHelper.dispose(SCOPE, this);
+      if (AutoDisposableHelper.dispose(MAIN, this)) {
+        AutoDisposePlugins.onDispose(this);
+        serializedError(e);
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    if (!isDisposed()) {
+      MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(SCOPE, this);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      serializedError(e);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    if (!isDisposed()) {
+      MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(SCOPE, this);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (getAndIncrement() == 0) {
+        terminate();
+      }
+    }
+  }
+
+  /** Emits {@code e} unless an {@link #onNext} is running, which then emits it once it's done. */
+  private void serializedError(Throwable e) {
+    if (ExceptionHelper.addThrowable(ERROR, this, e)) {
+      if (getAndIncrement() == 0) {
+        terminate();
+      }
+    } else {
+      RxJavaPlugins.onError(e);
+    }
+  }
+
+  private void terminate() {
+    Throwable ex = ExceptionHelper.terminate(ERROR, this);
+    if (ex != null) {
+      LambdaCallbacks.error(onError, ex);
+    } else {
+      LambdaCallbacks.complete(onComplete);
+    }
+    release();
+  }
+
+  /** Stateless relay of the scope's signals back to its parent. */
+  static final class ScopeObserver implements CompletableObserver {
+    private final AutoDisposingLambdaObserver<?> parent;
+
+    ScopeObserver(AutoDisposingLambdaObserver<?> parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+      parent.onScopeSubscribe(d);
+    }
+
+    @Override
+    public void onComplete() {
+      parent.onScopeComplete();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      parent.onScopeError(e);
+    }
+  }
+}
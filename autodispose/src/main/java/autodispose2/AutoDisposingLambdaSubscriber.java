@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
+import io.reactivex.rxjava3.observers.LambdaConsumerIntrospection;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link AutoDisposingSubscriberImpl} fused with the callbacks of {@link
+ * FlowableSubscribeProxy#subscribe(Consumer, Consumer, Action)} and its shorter overloads, in place
+ * of an {@code AutoDisposingSubscriberImpl} wrapping one of RxJava's lambda subscribers. Like
+ * those, it requests everything upstream, and a throwing {@code onNext} cancels the stream and goes
+ * to {@code onError}.
+ */
+final class AutoDisposingLambdaSubscriber<@NonNull T> extends AtomicInteger
+    implements FlowableSubscriber<T>, Disposable, LambdaConsumerIntrospection {
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  final AtomicReference<Subscription> mainSubscription = new AtomicReference<>();
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
+
+  private final AtomicThrowable error = new AtomicThrowable();
+  // The callbacks and the scope are released once this has terminated or been disposed, as the
+  // upstream may keep referencing this for longer than that.
+  @Nullable private volatile CompletableSource scope;
+  private volatile Consumer<? super T> onNext;
+  @Nullable private volatile Consumer<? super Throwable> onError;
+  @Nullable private volatile Action onComplete;
+  private final boolean customOnError;
+  /** Whether scope errors go to {@link #onError}, and so each item has to be serialized. */
+  private final boolean serialized = !AutoDisposePlugins.scopeErrorsToRxJavaPlugins;
+
+  AutoDisposingLambdaSubscriber(
+      CompletableSource scope,
+      Consumer<? super T> onNext,
+      @Nullable Consumer<? super Throwable> onError,
+      @Nullable Action onComplete) {
+    this.scope = scope;
+    this.onNext = onNext;
+    this.onError = onError;
+    this.onComplete = onComplete;
+    this.customOnError = onError != null;
+  }
+
+  @Override
+  public void onSubscribe(final Subscription s) {
+    DisposableCompletableObserver o =
+        new DisposableCompletableObserver() {
+          @Override
+          public void onError(Throwable e) {
+            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+            onScopeError(e);
+          }
+
+          @Override
+          public void onComplete() {
+            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+            if (ScopeEndDisposals.cancel(mainSubscription)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingLambdaSubscriber.this);
+              release();
+            }
+          }
+        };
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
+      scope.subscribe(o);
+      if (AutoDisposeEndConsumerHelper.setOnce(mainSubscription, s, getClass())) {
+        s.request(Long.MAX_VALUE);
+      }
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.cancel(mainSubscription)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      if (serialized) {
+        serializedError(e);
+      } else {
+        RxJavaPlugins.onError(e);
+        release();
+      }
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return mainSubscription.get() == AutoSubscriptionHelper.CANCELLED;
+  }
+
+  @Override
+  public void dispose() {
+    AutoDisposableHelper.dispose(scopeDisposable);
+    if (AutoSubscriptionHelper.cancel(mainSubscription)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  @Override
+  public boolean hasCustomOnError() {
+    return customOnError;
+  }
+
+  /**
+   * Drops the references to the callbacks and the scope. A callback that was already read keeps
+   * running, as each signal reads the callback it needs only once.
+   */
+  private void release() {
+    onNext = LambdaCallbacks.RELEASED_CONSUMER;
+    onError = LambdaCallbacks.RELEASED_ERROR_CONSUMER;
+    onComplete = LambdaCallbacks.RELEASED_ACTION;
+    scope = null;
+  }
+
+  @Override
+  public void onNext(T value) {
+    if (!isDisposed()) {
+      if (!serialized) {
+        next(value);
+      } else if (get() == 0 && compareAndSet(0, 1)) {
+        next(value);
+        if (decrementAndGet() != 0) {
+          // Terminal event occurred while emitting, so forward it and clean up here
+          mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
+          AutoDisposableHelper.dispose(scopeDisposable);
+          terminate();
+        }
+      }
+    }
+  }
+
+  private void next(T value) {
+    try {
+      onNext.accept(value);
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      // Upstream didn't terminate, so this is reported as a dispose rather than going to onError
+      AutoDisposableHelper.dispose(scopeDisposable);
+      if (AutoSubscriptionHelper.cancel(mainSubscription)) {
+        AutoDisposePlugins.onDispose(this);
+        serializedError(e);
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    if (!isDisposed()) {
+      mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
+      AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      serializedError(e);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    if (!isDisposed()) {
+      mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
+      AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (getAndIncrement() == 0) {
+        terminate();
+      }
+    }
+  }
+
+  /** Emits {@code e} unless an {@link #onNext} is running, which then emits it once it's done. */
+  private void serializedError(Throwable e) {
+    if (error.addThrowable(e)) {
+      if (getAndIncrement() == 0) {
+        terminate();
+      }
+    } else {
+      RxJavaPlugins.onError(e);
+    }
+  }
+
+  private void terminate() {
+    Throwable ex = error.terminate();
+    if (ex != null) {
+      LambdaCallbacks.error(onError, ex);
+    } else {
+      LambdaCallbacks.complete(onComplete);
+    }
+    release();
+  }
+}
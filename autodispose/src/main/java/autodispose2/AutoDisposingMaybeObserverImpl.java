@@ -17,12 +17,17 @@ package autodispose2;
 
 import autodispose2.observers.AutoDisposingMaybeObserver;
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.MaybeObserver;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * The delegate and the scope are released once this has terminated or been disposed, as the
+ * upstream may well keep referencing this for longer than that.
+ */
 final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingMaybeObserver<T> {
 
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
@@ -31,8 +36,8 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
   final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
 
-  private final CompletableSource scope;
-  private final MaybeObserver<? super T> delegate;
+  @Nullable private volatile CompletableSource scope;
+  private volatile MaybeObserver<? super T> delegate;
 
   AutoDisposingMaybeObserverImpl(CompletableSource scope, MaybeObserver<? super T> delegate) {
     this.scope = scope;
@@ -41,7 +46,7 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
 
   @Override
   public MaybeObserver<? super T> delegateObserver() {
-    return delegate;
+    return ReleasedDelegate.unwrap(delegate);
   }
 
   @Override
@@ -51,22 +56,37 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
           @Override
           public void onError(Throwable e) {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposingMaybeObserverImpl.this.onError(e);
+            onScopeError(e);
           }
 
           @Override
           public void onComplete() {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposableHelper.dispose(mainDisposable);
+            if (ScopeEndDisposals.dispose(mainDisposable)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingMaybeObserverImpl.this);
+              release();
+            }
           }
         };
-    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass())) {
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
       delegate.onSubscribe(this);
       scope.subscribe(o);
       AutoDisposeEndConsumerHelper.setOnce(mainDisposable, d, getClass());
     }
   }
 
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.dispose(mainDisposable)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      delegate.onError(e);
+      release();
+    }
+  }
+
   @Override
   public boolean isDisposed() {
     return mainDisposable.get() == AutoDisposableHelper.DISPOSED;
@@ -75,7 +95,15 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
   @Override
   public void dispose() {
     AutoDisposableHelper.dispose(scopeDisposable);
-    AutoDisposableHelper.dispose(mainDisposable);
+    if (AutoDisposableHelper.dispose(mainDisposable)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  private void release() {
+    delegate = ReleasedDelegate.of(delegate);
+    scope = null;
   }
 
   @Override
@@ -83,7 +111,9 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onSuccess(value);
+      release();
     }
   }
 
@@ -92,7 +122,9 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onError(e);
+      release();
     }
   }
 
@@ -101,7 +133,9 @@ final class AutoDisposingMaybeObserverImpl<@NonNull T> implements AutoDisposingM
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onComplete();
+      release();
     }
   }
 }
@@ -17,25 +17,57 @@ package autodispose2;
 
 import autodispose2.observers.AutoDisposingObserver;
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.disposables.Disposable;
-import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
+import io.reactivex.rxjava3.operators.QueueDisposable;
+import io.reactivex.rxjava3.operators.QueueFuseable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+/**
+ * All of the subscription state lives directly on this instance: it is its own half-serialization
+ * work-in-progress counter, and the upstream {@link Disposable}, the scope {@link Disposable} and
+ * the pending error are volatile fields driven through field updaters. The only other allocation
+ * per subscription is the {@link ScopeObserver}, which can't be folded in because {@link Observer}
+ * and {@link CompletableObserver} share the same method signatures.
+ *
+ * <p>The delegate and the scope are released once this has terminated or been disposed, as the
+ * upstream may well keep referencing this for longer than that.
+ *
+ * <p>If the upstream supports it, async queue fusion is passed straight through to the delegate,
+ * with each {@link #poll()} returning nothing once the scope has ended or this was disposed. Sync
+ * fusion isn't, as a sync consumer would take that empty poll as completion.
+ */
+@SuppressWarnings("rawtypes") // Field updaters can't be created for a generic type
 final class AutoDisposingObserverImpl<@NonNull T> extends AtomicInteger
-    implements AutoDisposingObserver<T> {
+    implements AutoDisposingObserver<T>, QueueDisposable<T> {
 
-  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
-  final AtomicReference<Disposable> mainDisposable = new AtomicReference<>();
+  private static final AtomicReferenceFieldUpdater<AutoDisposingObserverImpl, Disposable> MAIN =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingObserverImpl.class, Disposable.class, "mainDisposable");
 
-  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
-  final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
+  private static final AtomicReferenceFieldUpdater<AutoDisposingObserverImpl, Disposable> SCOPE =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingObserverImpl.class, Disposable.class, "scopeDisposable");
+
+  private static final AtomicReferenceFieldUpdater<AutoDisposingObserverImpl, Throwable> ERROR =
+      AtomicReferenceFieldUpdater.newUpdater(
+          AutoDisposingObserverImpl.class, Throwable.class, "error");
 
-  private final AtomicThrowable error = new AtomicThrowable();
-  private final CompletableSource scope;
-  private final Observer<? super T> delegate;
+  @Nullable private volatile Disposable mainDisposable;
+  @Nullable private volatile Disposable scopeDisposable;
+  @Nullable private volatile Throwable error;
+  @Nullable private QueueDisposable<T> queue;
+  /** Set before the upstream terminates, so that a fused delegate can still drain the queue. */
+  private boolean done;
+  @Nullable private volatile CompletableSource scope;
+  private volatile Observer<? super T> delegate;
+  /** Whether scope errors go downstream, and so each item has to be serialized against them. */
+  private final boolean serialized = !AutoDisposePlugins.scopeErrorsToRxJavaPlugins;
 
   AutoDisposingObserverImpl(CompletableSource scope, Observer<? super T> delegate) {
     this.scope = scope;
@@ -44,50 +76,90 @@ final class AutoDisposingObserverImpl<@NonNull T> extends AtomicInteger
 
   @Override
   public Observer<? super T> delegateObserver() {
-    return delegate;
+    return ReleasedDelegate.unwrap(delegate);
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public void onSubscribe(final Disposable d) {
-    DisposableCompletableObserver o =
-        new DisposableCompletableObserver() {
-          @Override
-          public void onError(Throwable e) {
-            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposingObserverImpl.this.onError(e);
-          }
-
-          @Override
-          public void onComplete() {
-            scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposableHelper.dispose(mainDisposable);
-          }
-        };
-    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass())) {
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(MAIN, this, d, getClass()) && scope != null) {
+      if (d instanceof QueueDisposable) {
+        queue = (QueueDisposable<T>) d;
+      }
+      AutoDisposePlugins.onSubscribe(this, scope);
       delegate.onSubscribe(this);
-      scope.subscribe(o);
-      AutoDisposeEndConsumerHelper.setOnce(mainDisposable, d, getClass());
+      if (!isDisposed()) {
+        scope.subscribe(new ScopeObserver(this));
+      }
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeSubscribe(Disposable d) {
+    AutoDisposeEndConsumerHelper.setOnce(SCOPE, this, d, getClass());
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeComplete() {
+    SCOPE.lazySet(this, AutoDisposableHelper.DISPOSED);
+    if (ScopeEndDisposals.dispose(MAIN, this)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      release();
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    SCOPE.lazySet(this, AutoDisposableHelper.DISPOSED);
+    if (ScopeEndDisposals.dispose(MAIN, this)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      if (!serialized) {
+        RxJavaPlugins.onError(e);
+        release();
+      } else if (HalfSerializer.onError(delegate, e, this, ERROR)) {
+        release();
+      }
     }
   }
 
   @Override
   public boolean isDisposed() {
-    return mainDisposable.get() == AutoDisposableHelper.DISPOSED;
+    return mainDisposable == AutoDisposableHelper.DISPOSED;
   }
 
   @Override
   public void dispose() {
-    AutoDisposableHelper.dispose(scopeDisposable);
-    AutoDisposableHelper.dispose(mainDisposable);
+    AutoDisposableHelper.dispose(SCOPE, this);
+    if (AutoDisposableHelper.dispose(MAIN, this)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  /**
+   * Drops the references to the delegate and the scope, keeping only a weak one to the delegate
+   * for the delegate accessor. Anything that was already on its way to the delegate still reaches
+   * it, as the signal methods read {@link #delegate} only once. It's volatile so that the release
+   * is also seen by a later call to the delegate accessor from another thread.
+   */
+  private void release() {
+    delegate = ReleasedDelegate.of(delegate);
+    scope = null;
   }
 
   @Override
   public void onNext(T value) {
     if (!isDisposed()) {
-      if (HalfSerializer.onNext(delegate, value, this, error)) {
+      if (!serialized) {
+        // Only the upstream can signal the delegate, so there's nothing to serialize against
+        delegate.onNext(value);
+      } else if (HalfSerializer.onNext(delegate, value, this, ERROR)) {
         // Terminal event occurred and was forwarded to the delegate, so clean up here
-        mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-        AutoDisposableHelper.dispose(scopeDisposable);
+        MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+        AutoDisposableHelper.dispose(SCOPE, this);
+        release();
       }
     }
   }
@@ -95,18 +167,93 @@ final class AutoDisposingObserverImpl<@NonNull T> extends AtomicInteger
   @Override
   public void onError(Throwable e) {
     if (!isDisposed()) {
-      mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-      AutoDisposableHelper.dispose(scopeDisposable);
-      HalfSerializer.onError(delegate, e, this, error);
+      done = true;
+      MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(SCOPE, this);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (HalfSerializer.onError(delegate, e, this, ERROR)) {
+        release();
+      }
     }
   }
 
   @Override
   public void onComplete() {
     if (!isDisposed()) {
-      mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-      AutoDisposableHelper.dispose(scopeDisposable);
-      HalfSerializer.onComplete(delegate, this, error);
+      done = true;
+      MAIN.lazySet(this, AutoDisposableHelper.DISPOSED);
+      AutoDisposableHelper.dispose(SCOPE, this);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (HalfSerializer.onComplete(delegate, this, ERROR)) {
+        release();
+      }
+    }
+  }
+
+  @Override
+  public int requestFusion(int mode) {
+    QueueDisposable<T> queue = this.queue;
+    if (queue == null || (mode & QueueFuseable.ASYNC) == 0) {
+      return QueueFuseable.NONE;
+    }
+    return queue.requestFusion(mode & ~QueueFuseable.SYNC);
+  }
+
+  @Nullable
+  @Override
+  public T poll() throws Throwable {
+    QueueDisposable<T> queue = this.queue;
+    if (queue == null || (isDisposed() && !done)) {
+      return null;
+    }
+    return queue.poll();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    QueueDisposable<T> queue = this.queue;
+    return queue == null || (isDisposed() && !done) || queue.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    QueueDisposable<T> queue = this.queue;
+    if (queue != null) {
+      queue.clear();
+    }
+  }
+
+  @Override
+  public boolean offer(T value) {
+    throw new UnsupportedOperationException("Should not be called!");
+  }
+
+  @Override
+  public boolean offer(T v1, T v2) {
+    throw new UnsupportedOperationException("Should not be called!");
+  }
+
+  /** Stateless relay of the scope's signals back to its parent. */
+  static final class ScopeObserver implements CompletableObserver {
+    private final AutoDisposingObserverImpl<?> parent;
+
+    ScopeObserver(AutoDisposingObserverImpl<?> parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+      parent.onScopeSubscribe(d);
+    }
+
+    @Override
+    public void onComplete() {
+      parent.onScopeComplete();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      parent.onScopeError(e);
     }
   }
 }
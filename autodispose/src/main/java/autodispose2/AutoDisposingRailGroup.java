@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.reactivestreams.Subscriber;
+
+/**
+ * The scope subscription shared by every rail of an {@link AutoDisposeParallelFlowable}. The scope
+ * is subscribed to once for the whole group, and when it ends every rail is cancelled in a single
+ * pass. Once every rail has let go, be it through cancellation or termination, the scope
+ * subscription is disposed.
+ */
+final class AutoDisposingRailGroup extends AtomicInteger implements CompletableObserver {
+
+  private final CompletableSource scope;
+  private final AtomicReferenceArray<CompletableObserver> rails;
+  private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+  @Nullable private volatile Throwable error;
+
+  AutoDisposingRailGroup(CompletableSource scope, int parallelism) {
+    super(parallelism);
+    this.scope = scope;
+    this.rails = new AtomicReferenceArray<>(parallelism);
+  }
+
+  /** Subscribes the group to its scope. Called once, before any rail is subscribed upstream. */
+  void connect() {
+    scope.subscribe(this);
+  }
+
+  /** Returns a subscriber for the rail at {@code index} that's bound to this group's scope. */
+  @SuppressWarnings("unchecked")
+  <@NonNull T> AutoDisposingSubscriberImpl<T> subscriber(
+      int index, Subscriber<? super T> delegate) {
+    Rail rail = new Rail(index);
+    if (delegate instanceof ConditionalSubscriber) {
+      return new AutoDisposingConditionalSubscriberImpl<>(
+          rail, (ConditionalSubscriber<? super T>) delegate);
+    }
+    return new AutoDisposingSubscriberImpl<>(rail, delegate);
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    if (!upstream.compareAndSet(null, d)) {
+      // Every rail is already gone
+      d.dispose();
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    upstream.lazySet(AutoDisposableHelper.DISPOSED);
+    terminateRails();
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    upstream.lazySet(AutoDisposableHelper.DISPOSED);
+    error = e;
+    terminateRails();
+  }
+
+  private void terminateRails() {
+    for (int i = 0; i < rails.length(); i++) {
+      for (; ; ) {
+        CompletableObserver observer = rails.get(i);
+        if (observer == RailState.DISPOSED) {
+          break;
+        }
+        if (rails.compareAndSet(i, observer, RailState.TERMINATED)) {
+          if (observer != null) {
+            terminate(observer);
+          }
+          break;
+        }
+      }
+    }
+  }
+
+  private void terminate(CompletableObserver observer) {
+    Throwable e = error;
+    if (e != null) {
+      observer.onError(e);
+    } else {
+      observer.onComplete();
+    }
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void release() {
+    if (decrementAndGet() == 0) {
+      AutoDisposableHelper.dispose(upstream);
+    }
+  }
+
+  /** Sentinel slot values, so neither a terminated nor a disposed rail is ever held onto. */
+  private enum RailState implements CompletableObserver {
+    TERMINATED,
+    DISPOSED;
+
+    @Override
+    public void onSubscribe(Disposable d) {}
+
+    @Override
+    public void onComplete() {}
+
+    @Override
+    public void onError(Throwable e) {}
+  }
+
+  /** The scope handed to a single rail, backed by its slot in {@link #rails}. */
+  final class Rail implements CompletableSource, Disposable {
+    private final int index;
+
+    Rail(int index) {
+      this.index = index;
+    }
+
+    /** Returns the scope shared by the whole group. */
+    CompletableSource scope() {
+      return scope;
+    }
+
+    @Override
+    public void subscribe(CompletableObserver observer) {
+      observer.onSubscribe(this);
+      if (!rails.compareAndSet(index, null, observer)
+          && rails.get(index) == RailState.TERMINATED) {
+        terminate(observer);
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (rails.getAndSet(index, RailState.DISPOSED) != RailState.DISPOSED) {
+        release();
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return rails.get(index) == RailState.DISPOSED;
+    }
+  }
+}
@@ -17,12 +17,17 @@ package autodispose2;
 
 import autodispose2.observers.AutoDisposingSingleObserver;
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.core.SingleObserver;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * The delegate and the scope are released once this has terminated or been disposed, as the
+ * upstream may well keep referencing this for longer than that.
+ */
 final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposingSingleObserver<T> {
 
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
@@ -31,8 +36,8 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
   final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
 
-  private final CompletableSource scope;
-  private final SingleObserver<? super T> delegate;
+  @Nullable private volatile CompletableSource scope;
+  private volatile SingleObserver<? super T> delegate;
 
   AutoDisposingSingleObserverImpl(CompletableSource scope, SingleObserver<? super T> delegate) {
     this.scope = scope;
@@ -41,7 +46,7 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
 
   @Override
   public SingleObserver<? super T> delegateObserver() {
-    return delegate;
+    return ReleasedDelegate.unwrap(delegate);
   }
 
   @Override
@@ -51,22 +56,37 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
           @Override
           public void onError(Throwable e) {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposingSingleObserverImpl.this.onError(e);
+            onScopeError(e);
           }
 
           @Override
           public void onComplete() {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposableHelper.dispose(mainDisposable);
+            if (ScopeEndDisposals.dispose(mainDisposable)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingSingleObserverImpl.this);
+              release();
+            }
           }
         };
-    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass())) {
+    // Only released once disposed, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      AutoDisposePlugins.onSubscribe(this, scope);
       delegate.onSubscribe(this);
       scope.subscribe(o);
       AutoDisposeEndConsumerHelper.setOnce(mainDisposable, d, getClass());
     }
   }
 
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.dispose(mainDisposable)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      delegate.onError(e);
+      release();
+    }
+  }
+
   @Override
   public boolean isDisposed() {
     return mainDisposable.get() == AutoDisposableHelper.DISPOSED;
@@ -75,7 +95,15 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
   @Override
   public void dispose() {
     AutoDisposableHelper.dispose(scopeDisposable);
-    AutoDisposableHelper.dispose(mainDisposable);
+    if (AutoDisposableHelper.dispose(mainDisposable)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  private void release() {
+    delegate = ReleasedDelegate.of(delegate);
+    scope = null;
   }
 
   @Override
@@ -83,7 +111,9 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onSuccess(value);
+      release();
     }
   }
 
@@ -92,7 +122,9 @@ final class AutoDisposingSingleObserverImpl<@NonNull T> implements AutoDisposing
     if (!isDisposed()) {
       mainDisposable.lazySet(AutoDisposableHelper.DISPOSED);
       AutoDisposableHelper.dispose(scopeDisposable);
+      AutoDisposePlugins.onUpstreamTerminate(this);
       delegate.onError(e);
+      release();
     }
   }
 }
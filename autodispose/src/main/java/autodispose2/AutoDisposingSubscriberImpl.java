@@ -17,17 +17,33 @@ package autodispose2;
 
 import autodispose2.observers.AutoDisposingSubscriber;
 import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.core.CompletableSource;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.observers.DisposableCompletableObserver;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import io.reactivex.rxjava3.operators.QueueFuseable;
+import io.reactivex.rxjava3.operators.QueueSubscription;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
-final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
-    implements AutoDisposingSubscriber<T> {
+/**
+ * If the upstream supports it, async queue fusion is passed straight through to the delegate, with
+ * each {@link #poll()} returning nothing once the scope has ended or this was cancelled. Sync
+ * fusion isn't, as a sync consumer would take that empty poll as completion.
+ *
+ * <p>The delegate and the scope are released once this has terminated or been cancelled, as the
+ * upstream may well keep referencing this for longer than that.
+ *
+ * <p>Not final so that {@link AutoDisposingConditionalSubscriberImpl} can add {@code tryOnNext} for
+ * conditional delegates.
+ */
+class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
+    implements AutoDisposingSubscriber<T>, QueueSubscription<T> {
 
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
   final AtomicReference<Subscription> mainSubscription = new AtomicReference<>();
@@ -35,22 +51,39 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
   @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
   final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
 
-  private final AtomicThrowable error = new AtomicThrowable();
+  final AtomicThrowable error = new AtomicThrowable();
   private final AtomicReference<Subscription> ref = new AtomicReference<>();
   private final AtomicLong requested = new AtomicLong();
-  private final CompletableSource scope;
-  private final Subscriber<? super T> delegate;
+  @Nullable private QueueSubscription<T> queue;
+  /** Set before the upstream terminates, so that a fused delegate can still drain the queue. */
+  private boolean done;
+  @Nullable private volatile CompletableSource scope;
+  private volatile Subscriber<? super T> delegate;
+  /** Whether scope errors go downstream, and so each item has to be serialized against them. */
+  final boolean serialized = !AutoDisposePlugins.scopeErrorsToRxJavaPlugins;
 
   AutoDisposingSubscriberImpl(CompletableSource scope, Subscriber<? super T> delegate) {
     this.scope = scope;
     this.delegate = delegate;
   }
 
+  /** Returns the conditional variant if {@code delegate} is a {@link ConditionalSubscriber}. */
+  @SuppressWarnings("unchecked")
+  static <@NonNull T> AutoDisposingSubscriberImpl<T> create(
+      CompletableSource scope, Subscriber<? super T> delegate) {
+    if (delegate instanceof ConditionalSubscriber) {
+      return new AutoDisposingConditionalSubscriberImpl<>(
+          scope, (ConditionalSubscriber<? super T>) delegate);
+    }
+    return new AutoDisposingSubscriberImpl<>(scope, delegate);
+  }
+
   @Override
   public Subscriber<? super T> delegateSubscriber() {
-    return delegate;
+    return ReleasedDelegate.unwrap(delegate);
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public void onSubscribe(final Subscription s) {
     DisposableCompletableObserver o =
@@ -58,16 +91,25 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
           @Override
           public void onError(Throwable e) {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoDisposingSubscriberImpl.this.onError(e);
+            onScopeError(e);
           }
 
           @Override
           public void onComplete() {
             scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
-            AutoSubscriptionHelper.cancel(mainSubscription);
+            if (ScopeEndDisposals.cancel(mainSubscription)) {
+              AutoDisposePlugins.onScopeDispose(AutoDisposingSubscriberImpl.this);
+              release();
+            }
           }
         };
-    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass())) {
+    // Only released once cancelled, in which case setOnce fails
+    CompletableSource scope = this.scope;
+    if (AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, o, getClass()) && scope != null) {
+      if (s instanceof QueueSubscription) {
+        queue = (QueueSubscription<T>) s;
+      }
+      AutoDisposePlugins.onSubscribe(this, scope);
       delegate.onSubscribe(this);
       scope.subscribe(o);
       if (AutoDisposeEndConsumerHelper.setOnce(mainSubscription, s, getClass())) {
@@ -76,6 +118,19 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
     }
   }
 
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onScopeError(Throwable e) {
+    if (ScopeEndDisposals.cancel(mainSubscription)) {
+      AutoDisposePlugins.onScopeDispose(this);
+      if (!serialized) {
+        RxJavaPlugins.onError(e);
+        release();
+      } else if (HalfSerializer.onError(delegate, e, this, error)) {
+        release();
+      }
+    }
+  }
+
   /**
    * Requests the specified amount from the upstream if its Subscription is set via onSubscribe
    * already.
@@ -100,7 +155,21 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
   @Override
   public void cancel() {
     AutoDisposableHelper.dispose(scopeDisposable);
-    AutoSubscriptionHelper.cancel(mainSubscription);
+    if (AutoSubscriptionHelper.cancel(mainSubscription)) {
+      AutoDisposePlugins.onDispose(this);
+      release();
+    }
+  }
+
+  /**
+   * Drops the references to the delegate and the scope, keeping only a weak one to the delegate
+   * for the delegate accessor. Anything that was already on its way to the delegate still reaches
+   * it, as the signal methods read {@link #delegate} only once. It's volatile so that the release
+   * is also seen by a later call to the delegate accessor from another thread.
+   */
+  void release() {
+    delegate = ReleasedDelegate.of(delegate);
+    scope = null;
   }
 
   @Override
@@ -116,10 +185,14 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
   @Override
   public void onNext(T value) {
     if (!isDisposed()) {
-      if (HalfSerializer.onNext(delegate, value, this, error)) {
+      if (!serialized) {
+        // Only the upstream can signal the delegate, so there's nothing to serialize against
+        delegate.onNext(value);
+      } else if (HalfSerializer.onNext(delegate, value, this, error)) {
         // Terminal event occurred and was forwarded to the delegate, so clean up here
         mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
         AutoDisposableHelper.dispose(scopeDisposable);
+        release();
       }
     }
   }
@@ -127,18 +200,69 @@ final class AutoDisposingSubscriberImpl<@NonNull T> extends AtomicInteger
   @Override
   public void onError(Throwable e) {
     if (!isDisposed()) {
+      done = true;
       mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
       AutoDisposableHelper.dispose(scopeDisposable);
-      HalfSerializer.onError(delegate, e, this, error);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (HalfSerializer.onError(delegate, e, this, error)) {
+        release();
+      }
     }
   }
 
   @Override
   public void onComplete() {
     if (!isDisposed()) {
+      done = true;
       mainSubscription.lazySet(AutoSubscriptionHelper.CANCELLED);
       AutoDisposableHelper.dispose(scopeDisposable);
-      HalfSerializer.onComplete(delegate, this, error);
+      AutoDisposePlugins.onUpstreamTerminate(this);
+      if (HalfSerializer.onComplete(delegate, this, error)) {
+        release();
+      }
+    }
+  }
+
+  @Override
+  public int requestFusion(int mode) {
+    QueueSubscription<T> queue = this.queue;
+    if (queue == null || (mode & QueueFuseable.ASYNC) == 0) {
+      return QueueFuseable.NONE;
+    }
+    return queue.requestFusion(mode & ~QueueFuseable.SYNC);
+  }
+
+  @Nullable
+  @Override
+  public T poll() throws Throwable {
+    QueueSubscription<T> queue = this.queue;
+    if (queue == null || (isDisposed() && !done)) {
+      return null;
+    }
+    return queue.poll();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    QueueSubscription<T> queue = this.queue;
+    return queue == null || (isDisposed() && !done) || queue.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    QueueSubscription<T> queue = this.queue;
+    if (queue != null) {
+      queue.clear();
     }
   }
+
+  @Override
+  public boolean offer(T value) {
+    throw new UnsupportedOperationException("Should not be called!");
+  }
+
+  @Override
+  public boolean offer(T v1, T v2) {
+    throw new UnsupportedOperationException("Should not be called!");
+  }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ends the scope returned by {@link Scopes#untilCollected(Object)} once its owner becomes phantom
+ * reachable.
+ *
+ * <p>All of these references share one {@link ReferenceQueue}, drained by a single daemon thread
+ * that is started the first time one is created. It completes the scope on that thread, so the
+ * disposals happen there too unless {@link AutoDisposePlugins#setScopeEndDisposalScheduler}
+ * offloads them. {@code java.lang.ref.Cleaner} would do the same, but isn't available on Java 8
+ * or Android.
+ */
+final class CollectedOwnerScope extends PhantomReference<Object> {
+
+  private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+  /** References are only enqueued while they're reachable themselves, so keep them here. */
+  private static final Set<CollectedOwnerScope> PENDING =
+      Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+  static {
+    Thread reaper = new Thread(CollectedOwnerScope::drain, "AutoDispose-CollectedOwnerScope");
+    reaper.setDaemon(true);
+    reaper.start();
+  }
+
+  private final CompletableSubject scope = CompletableSubject.create();
+
+  private CollectedOwnerScope(Object owner) {
+    super(owner, QUEUE);
+  }
+
+  /** Returns a scope that completes once {@code owner} becomes phantom reachable. */
+  static CompletableSubject of(Object owner) {
+    CollectedOwnerScope ref = new CollectedOwnerScope(owner);
+    PENDING.add(ref);
+    return ref.scope;
+  }
+
+  private static void drain() {
+    while (true) {
+      try {
+        CollectedOwnerScope ref = (CollectedOwnerScope) QUEUE.remove();
+        PENDING.remove(ref);
+        ref.scope.onComplete();
+      } catch (InterruptedException ignored) {
+        // Nothing to stop, keep draining
+      } catch (Throwable e) {
+        // Don't let one failing disposal stop every other scope from ending
+        Exceptions.throwIfFatal(e);
+        RxJavaPlugins.onError(e);
+      }
+    }
+  }
+}
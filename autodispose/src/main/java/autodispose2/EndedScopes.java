@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import org.reactivestreams.Subscription;
+
+/**
+ * Non-blocking checks for scopes that have already ended by the time a stream is subscribed. The
+ * {@code AutoDispose*} operators use these to hand the downstream an already disposed stream
+ * without subscribing upstream, so no work is started for a scope that's already dead.
+ *
+ * <p>Only scope types whose state can be read without subscribing are recognized. Anything else is
+ * assumed to still be live, and ends the stream through the usual subscription path.
+ */
+final class EndedScopes {
+
+  /**
+   * {@link Completable#complete()} is only recognized by identity, so this is best-effort. If an
+   * assembly hook installed via {@code RxJavaPlugins.setOnCompletableAssembly()} wraps it, the
+   * wrapper isn't recognized and the scope ends the stream through the subscription path instead.
+   */
+  private static final Completable COMPLETE = Completable.complete();
+
+  private EndedScopes() {
+    throw new InstantiationError();
+  }
+
+  /**
+   * Returns {@code scope} with its scope requested from the provider up front if it's a {@link
+   * ScopeProvider}'s, so that {@link #hasEnded(CompletableSource)} can see what it resolved to.
+   * Call once per subscription.
+   */
+  static CompletableSource resolve(CompletableSource scope) {
+    if (scope instanceof ProviderCompletable) {
+      return ((ProviderCompletable) scope).resolve();
+    }
+    return scope;
+  }
+
+  /** Returns whether {@code scope} is known to have already completed or errored. */
+  static boolean hasEnded(CompletableSource scope) {
+    if (scope == COMPLETE) {
+      return true;
+    } else if (scope instanceof CompletableSubject) {
+      CompletableSubject subject = (CompletableSubject) scope;
+      return subject.hasComplete() || subject.hasThrowable();
+    } else if (scope instanceof SharedScopeCompletable) {
+      return ((SharedScopeCompletable) scope).hasEnded();
+    } else if (scope instanceof ProviderCompletable) {
+      return ((ProviderCompletable) scope).hasEnded();
+    }
+    return false;
+  }
+
+  /** Stands in for the upstream of a stream whose scope had already ended. */
+  enum NoUpstream implements Subscription {
+    INSTANCE;
+
+    @Override
+    public void request(long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
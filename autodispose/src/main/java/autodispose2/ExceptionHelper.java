@@ -20,6 +20,7 @@ package autodispose2;
 import io.reactivex.rxjava3.annotations.Nullable;
 import io.reactivex.rxjava3.exceptions.CompositeException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Terminal atomics for Throwable containers.
@@ -67,6 +68,35 @@ final class ExceptionHelper {
     return current;
   }
 
+  static <O> boolean addThrowable(AtomicReferenceFieldUpdater<O, Throwable> field, O instance, Throwable exception) {
+    for (; ; ) {
+      Throwable current = field.get(instance);
+
+      if (current == TERMINATED) {
+        return false;
+      }
+
+      Throwable update;
+      if (current == null) {
+        update = exception;
+      } else {
+        update = new CompositeException(current, exception);
+      }
+
+      if (field.compareAndSet(instance, current, update)) {
+        return true;
+      }
+    }
+  }
+
+  @Nullable static <O> Throwable terminate(AtomicReferenceFieldUpdater<O, Throwable> field, O instance) {
+    Throwable current = field.get(instance);
+    if (current != TERMINATED) {
+      current = field.getAndSet(instance, TERMINATED);
+    }
+    return current;
+  }
+
   static final class Termination extends Throwable {
 
     Termination() {
@@ -21,6 +21,7 @@ import io.reactivex.rxjava3.annotations.NonNull;
 import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.reactivestreams.Subscriber;
 
 /**
@@ -28,8 +29,8 @@ import org.reactivestreams.Subscriber;
  * where onNext is guaranteed to be called from a single thread but
  * onError or onComplete may be called from any threads.
  * <p>
- * The onNext methods have been modified to return a boolean indicating whether or not the delegate
- * observer was sent a terminal event.
+ * The onNext, onError and onComplete methods have been modified to return a boolean indicating
+ * whether or not the delegate observer was sent a terminal event by the calling thread.
  */
 final class HalfSerializer {
   /** Utility class. */
@@ -76,15 +77,18 @@ final class HalfSerializer {
    * @param ex the Throwable to emit
    * @param wip the serialization work-in-progress counter/indicator
    * @param error the holder of Throwables
+   * @return true if a terminal event was emitted to {@code observer}, false if not
    */
-  public static void onError(Subscriber<?> subscriber, Throwable ex, AtomicInteger wip, AtomicThrowable error) {
+  public static boolean onError(Subscriber<?> subscriber, Throwable ex, AtomicInteger wip, AtomicThrowable error) {
     if (error.addThrowable(ex)) {
       if (wip.getAndIncrement() == 0) {
         subscriber.onError(error.terminate());
+        return true;
       }
     } else {
       RxJavaPlugins.onError(ex);
     }
+    return false;
   }
 
   /**
@@ -94,8 +98,9 @@ final class HalfSerializer {
    * @param subscriber the target Subscriber to emit to
    * @param wip the serialization work-in-progress counter/indicator
    * @param error the holder of Throwables
+   * @return true if a terminal event was emitted to {@code observer}, false if not
    */
-  public static void onComplete(Subscriber<?> subscriber, AtomicInteger wip, AtomicThrowable error) {
+  public static boolean onComplete(Subscriber<?> subscriber, AtomicInteger wip, AtomicThrowable error) {
     if (wip.getAndIncrement() == 0) {
       Throwable ex = error.terminate();
       if (ex != null) {
@@ -103,7 +108,9 @@ final class HalfSerializer {
       } else {
         subscriber.onComplete();
       }
+      return true;
     }
+    return false;
   }
 
   /**
@@ -142,15 +149,18 @@ final class HalfSerializer {
    * @param ex the Throwable to emit
    * @param wip the serialization work-in-progress counter/indicator
    * @param error the holder of Throwables
+   * @return true if a terminal event was emitted to {@code observer}, false if not
    */
-  public static void onError(Observer<?> observer, Throwable ex, AtomicInteger wip, AtomicThrowable error) {
+  public static boolean onError(Observer<?> observer, Throwable ex, AtomicInteger wip, AtomicThrowable error) {
     if (error.addThrowable(ex)) {
       if (wip.getAndIncrement() == 0) {
         observer.onError(error.terminate());
+        return true;
       }
     } else {
       RxJavaPlugins.onError(ex);
     }
+    return false;
   }
 
   /**
@@ -160,8 +170,9 @@ final class HalfSerializer {
    * @param observer the target Subscriber to emit to
    * @param wip the serialization work-in-progress counter/indicator
    * @param error the holder of Throwables
+   * @return true if a terminal event was emitted to {@code observer}, false if not
    */
-  public static void onComplete(Observer<?> observer, AtomicInteger wip, AtomicThrowable error) {
+  public static boolean onComplete(Observer<?> observer, AtomicInteger wip, AtomicThrowable error) {
     if (wip.getAndIncrement() == 0) {
       Throwable ex = error.terminate();
       if (ex != null) {
@@ -169,6 +180,86 @@ final class HalfSerializer {
       } else {
         observer.onComplete();
       }
+      return true;
     }
+    return false;
+  }
+
+  /**
+   * Emits the given value if possible and terminates if there was an onComplete or onError
+   * while emitting, drops the value otherwise.
+   * <p>
+   * This variant is for consumers that are their own work-in-progress counter and keep the
+   * Throwable container in a volatile field of their own.
+   *
+   * @param <T> the value type
+   * @param <O> the type of the consumer that holds the wip counter and the error field
+   * @param observer the target Observer to emit to
+   * @param value the value to emit
+   * @param wip the serialization work-in-progress counter/indicator
+   * @param error the updater of the Throwable field on {@code wip}
+   * @return true if a terminal event was emitted to {@code observer}, false if not
+   */
+  public static <@NonNull T, O extends AtomicInteger> boolean onNext(Observer<? super T> observer, T value, O wip, AtomicReferenceFieldUpdater<O, Throwable> error) {
+    if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+      observer.onNext(value);
+      if (wip.decrementAndGet() != 0) {
+        Throwable ex = ExceptionHelper.terminate(error, wip);
+        if (ex != null) {
+          observer.onError(ex);
+        } else {
+          observer.onComplete();
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Emits the given exception if possible or adds it to the given error field to
+   * be emitted by a concurrent onNext if one is running.
+   * Undeliverable exceptions are sent to the RxJavaPlugins.onError.
+   *
+   * @param <O> the type of the consumer that holds the wip counter and the error field
+   * @param observer the target Observer to emit to
+   * @param ex the Throwable to emit
+   * @param wip the serialization work-in-progress counter/indicator
+   * @param error the updater of the Throwable field on {@code wip}
+   * @return true if a terminal event was emitted to {@code observer}, false if not
+   */
+  public static <O extends AtomicInteger> boolean onError(Observer<?> observer, Throwable ex, O wip, AtomicReferenceFieldUpdater<O, Throwable> error) {
+    if (ExceptionHelper.addThrowable(error, wip, ex)) {
+      if (wip.getAndIncrement() == 0) {
+        observer.onError(ExceptionHelper.terminate(error, wip));
+        return true;
+      }
+    } else {
+      RxJavaPlugins.onError(ex);
+    }
+    return false;
+  }
+
+  /**
+   * Emits an onComplete signal or an onError signal with the given error field or indicates
+   * the concurrently running onNext should do that.
+   *
+   * @param <O> the type of the consumer that holds the wip counter and the error field
+   * @param observer the target Observer to emit to
+   * @param wip the serialization work-in-progress counter/indicator
+   * @param error the updater of the Throwable field on {@code wip}
+   * @return true if a terminal event was emitted to {@code observer}, false if not
+   */
+  public static <O extends AtomicInteger> boolean onComplete(Observer<?> observer, O wip, AtomicReferenceFieldUpdater<O, Throwable> error) {
+    if (wip.getAndIncrement() == 0) {
+      Throwable ex = ExceptionHelper.terminate(error, wip);
+      if (ex != null) {
+        observer.onError(ex);
+      } else {
+        observer.onComplete();
+      }
+      return true;
+    }
+    return false;
   }
 }
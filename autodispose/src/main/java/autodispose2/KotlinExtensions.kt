@@ -131,15 +131,22 @@ public interface AutoDisposeContext {
 
 @PublishedApi
 internal class RealAutoDisposeContext(private val scope: Completable) : AutoDisposeContext {
-  override fun <T : Any> ParallelFlowable<T>.autoDispose() = autoDispose(scope)
+  // Converters only hold their scope and don't depend on the stream type, so one is shared by every
+  // stream in this context.
+  private val converter: AutoDisposeConverter<Any> = AutoDispose.autoDisposable(scope)
 
-  override fun <T : Any> Flowable<T>.autoDispose() = autoDispose(scope)
+  @Suppress("UNCHECKED_CAST")
+  private fun <T : Any> converter() = converter as AutoDisposeConverter<T>
 
-  override fun <T : Any> Observable<T>.autoDispose() = autoDispose(scope)
+  override fun <T : Any> ParallelFlowable<T>.autoDispose() = to(converter<T>())
 
-  override fun <T : Any> Single<T>.autoDispose() = autoDispose(scope)
+  override fun <T : Any> Flowable<T>.autoDispose() = to(converter<T>())
 
-  override fun <T : Any> Maybe<T>.autoDispose() = autoDispose(scope)
+  override fun <T : Any> Observable<T>.autoDispose() = to(converter<T>())
 
-  override fun Completable.autoDispose() = autoDispose(scope)
+  override fun <T : Any> Single<T>.autoDispose() = to(converter<T>())
+
+  override fun <T : Any> Maybe<T>.autoDispose() = to(converter<T>())
+
+  override fun Completable.autoDispose() = to(converter)
 }
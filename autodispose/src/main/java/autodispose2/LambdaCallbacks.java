@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.exceptions.CompositeException;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.exceptions.OnErrorNotImplementedException;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+
+/**
+ * Invokes the callbacks of the fused {@code AutoDisposingLambda*} observers with the same error
+ * handling as RxJava's own lambda observers: a missing {@code onError} reports an {@link
+ * OnErrorNotImplementedException}, and callbacks that throw are reported to {@link
+ * RxJavaPlugins#onError(Throwable)}.
+ *
+ * <p>The fused observers swap their callbacks for the {@code RELEASED_*} stand-ins once they have
+ * terminated or been disposed, like {@link ReleasedDelegate} for the {@code AutoDisposing*Impl}s,
+ * as the upstream may keep referencing them (and so whatever the callbacks captured) for longer.
+ */
+final class LambdaCallbacks {
+
+  /**
+   * Stands in for the {@code onNext} or {@code onSuccess} callback once released, dropping anything
+   * that still reaches it in a race with the release.
+   */
+  static final Consumer<Object> RELEASED_CONSUMER = value -> {};
+
+  /**
+   * Stands in for the {@code onError} callback once released. An error that still reaches it in a
+   * race with the release is undeliverable, so it goes to {@link RxJavaPlugins}.
+   */
+  static final Consumer<Throwable> RELEASED_ERROR_CONSUMER = RxJavaPlugins::onError;
+
+  /** Stands in for the {@code onComplete} callback once released. */
+  static final Action RELEASED_ACTION = () -> {};
+
+  private LambdaCallbacks() {
+    throw new InstantiationError();
+  }
+
+  static <@NonNull T> void success(Consumer<? super T> onSuccess, T value) {
+    try {
+      onSuccess.accept(value);
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      RxJavaPlugins.onError(e);
+    }
+  }
+
+  static void error(@Nullable Consumer<? super Throwable> onError, Throwable e) {
+    if (onError == null) {
+      RxJavaPlugins.onError(new OnErrorNotImplementedException(e));
+      return;
+    }
+    try {
+      onError.accept(e);
+    } catch (Throwable inner) {
+      Exceptions.throwIfFatal(inner);
+      RxJavaPlugins.onError(new CompositeException(e, inner));
+    }
+  }
+
+  static void complete(@Nullable Action onComplete) {
+    if (onComplete == null) {
+      return;
+    }
+    try {
+      onComplete.run();
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      RxJavaPlugins.onError(e);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link AutoDisposeListener} that keeps track of every live AutoDispose subscription and the
+ * scope it's bound to, to find scopes that never end and the streams they keep alive.
+ *
+ * <p>Install it with {@link AutoDisposePlugins#setListener(AutoDisposeListener)} and call {@link
+ * #snapshot()} or {@link #dump()} to see the subscriptions that are still open, grouped by scope.
+ * Subscriptions made with a {@link ScopeProvider} are grouped by that provider rather than the
+ * {@link CompletableSource} it resolves to.
+ *
+ * <p>Capturing where a subscription was made means filling in a stacktrace, so that's only done for
+ * one in every {@code siteSamplingInterval} subscriptions. Subscriptions and scopes are only held
+ * weakly, so tracking never keeps a stream alive by itself.
+ */
+public final class LiveSubscriptionTracker implements AutoDisposeListener {
+
+  /** Returns a new tracker that doesn't capture subscription sites. */
+  public static LiveSubscriptionTracker create() {
+    return new LiveSubscriptionTracker(0);
+  }
+
+  /**
+   * Returns a new tracker that captures the subscription site of one in every {@code
+   * siteSamplingInterval} subscriptions, or none if it's 0.
+   */
+  public static LiveSubscriptionTracker create(int siteSamplingInterval) {
+    if (siteSamplingInterval < 0) {
+      throw new IllegalArgumentException("siteSamplingInterval < 0: " + siteSamplingInterval);
+    }
+    return new LiveSubscriptionTracker(siteSamplingInterval);
+  }
+
+  private final ConcurrentHashMap<IdentityKey, LiveSubscription> live = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+  private final AtomicLong subscriptions = new AtomicLong();
+  private final int siteSamplingInterval;
+
+  private LiveSubscriptionTracker(int siteSamplingInterval) {
+    this.siteSamplingInterval = siteSamplingInterval;
+  }
+
+  @Override
+  public void onSubscribe(Disposable observer, CompletableSource scope) {
+    expungeCollected();
+    long count = subscriptions.getAndIncrement();
+    SubscriptionSite site = null;
+    if (siteSamplingInterval != 0 && count % siteSamplingInterval == 0) {
+      site = new SubscriptionSite();
+    }
+    live.put(
+        new IdentityKey(observer, collected), new LiveSubscription(Scopes.originOf(scope), site));
+  }
+
+  @Override
+  public void onScopeDispose(Disposable observer) {
+    live.remove(new IdentityKey(observer, null));
+  }
+
+  @Override
+  public void onUpstreamTerminate(Disposable observer) {
+    live.remove(new IdentityKey(observer, null));
+  }
+
+  @Override
+  public void onDispose(Disposable observer) {
+    live.remove(new IdentityKey(observer, null));
+  }
+
+  /** Returns the number of live subscriptions. */
+  public int liveCount() {
+    expungeCollected();
+    return live.size();
+  }
+
+  /**
+   * Returns the live subscriptions grouped by scope (or {@link ScopeProvider}), with the scopes
+   * holding the most subscriptions first.
+   */
+  public Map<Object, List<LiveSubscription>> snapshot() {
+    expungeCollected();
+    Map<Object, List<LiveSubscription>> byScope = new IdentityHashMap<>();
+    for (LiveSubscription subscription : live.values()) {
+      Object scope = subscription.scope();
+      if (scope != null) {
+        List<LiveSubscription> list = byScope.get(scope);
+        if (list == null) {
+          list = new ArrayList<>();
+          byScope.put(scope, list);
+        }
+        list.add(subscription);
+      }
+    }
+    List<Map.Entry<Object, List<LiveSubscription>>> entries = new ArrayList<>(byScope.entrySet());
+    Collections.sort(entries, (a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
+    Map<Object, List<LiveSubscription>> sorted = new LinkedHashMap<>();
+    for (Map.Entry<Object, List<LiveSubscription>> entry : entries) {
+      sorted.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+    }
+    return Collections.unmodifiableMap(sorted);
+  }
+
+  /** Returns a human readable report of {@link #snapshot()}, including any sampled sites. */
+  public String dump() {
+    StringWriter out = new StringWriter();
+    PrintWriter writer = new PrintWriter(out);
+    long now = System.nanoTime();
+    for (Map.Entry<Object, List<LiveSubscription>> entry : snapshot().entrySet()) {
+      List<LiveSubscription> subscriptions = entry.getValue();
+      writer.println(subscriptions.size() + " live subscription(s) in scope " + entry.getKey());
+      for (LiveSubscription subscription : subscriptions) {
+        long age = TimeUnit.NANOSECONDS.toMillis(now - subscription.subscribeTimeNanos());
+        writer.println("  subscribed " + age + "ms ago");
+        Throwable site = subscription.site();
+        if (site != null) {
+          for (StackTraceElement element : site.getStackTrace()) {
+            writer.println("    at " + element);
+          }
+        }
+      }
+    }
+    writer.flush();
+    return out.toString();
+  }
+
+  private void expungeCollected() {
+    Reference<?> ref;
+    while ((ref = collected.poll()) != null) {
+      live.remove(ref);
+    }
+  }
+
+  /** A live AutoDispose subscription. */
+  public static final class LiveSubscription {
+    private final WeakReference<Object> scope;
+    @Nullable private final Throwable site;
+    private final long subscribeTimeNanos = System.nanoTime();
+
+    LiveSubscription(Object scope, @Nullable Throwable site) {
+      this.scope = new WeakReference<>(scope);
+      this.site = site;
+    }
+
+    /**
+     * Returns the scope (or {@link ScopeProvider}) this subscription is bound to, or null if it was
+     * garbage collected.
+     */
+    @Nullable
+    public Object scope() {
+      return scope.get();
+    }
+
+    /** Returns where this subscription was made, if it was sampled. */
+    @Nullable
+    public Throwable site() {
+      return site;
+    }
+
+    /** Returns the {@link System#nanoTime()} of when this subscription was made. */
+    public long subscribeTimeNanos() {
+      return subscribeTimeNanos;
+    }
+  }
+
+  /** Captures the stacktrace of a sampled subscription. */
+  static final class SubscriptionSite extends Throwable {
+    private static final long serialVersionUID = 6513418316545698421L;
+
+    SubscriptionSite() {
+      super("Subscribed here");
+    }
+  }
+
+  /** A weak key that compares its referent by identity. */
+  static final class IdentityKey extends WeakReference<Object> {
+    private final int hash;
+
+    IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof IdentityKey)) {
+        return false;
+      }
+      Object referent = get();
+      return referent != null && referent == ((IdentityKey) o).get();
+    }
+  }
+}
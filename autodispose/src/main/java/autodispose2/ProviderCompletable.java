@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.functions.Consumer;
+
+/**
+ * The {@link Completable} returned by {@link Scopes#completableOf(ScopeProvider)}. It requests the
+ * scope from its {@link #provider} on each subscription like {@link Completable#defer} would, but
+ * keeps the provider reachable so diagnostics like {@link LiveSubscriptionTracker} can attribute
+ * subscriptions to it.
+ *
+ * <p>The operators {@link #resolve()} it once per subscription before subscribing upstream, so
+ * that a provider whose scope has already ended never gets its upstream subscribed.
+ */
+final class ProviderCompletable extends Completable {
+
+  final ScopeProvider provider;
+  /** The scope {@link #resolve()} already requested, if any. */
+  @Nullable private final CompletableSource resolvedScope;
+  /** What requesting the scope threw in {@link #resolve()}, if anything. */
+  @Nullable private final Throwable resolveError;
+
+  ProviderCompletable(ScopeProvider provider) {
+    this(provider, null, null);
+  }
+
+  private ProviderCompletable(
+      ScopeProvider provider,
+      @Nullable CompletableSource resolvedScope,
+      @Nullable Throwable resolveError) {
+    this.provider = provider;
+    this.resolvedScope = resolvedScope;
+    this.resolveError = resolveError;
+  }
+
+  /**
+   * Requests the scope from the provider now and returns an instance for a single subscription that
+   * hands out that outcome, so it can be probed with {@link #hasEnded()} before subscribing
+   * upstream. Outside scope handling still only happens once the returned instance is subscribed.
+   */
+  ProviderCompletable resolve() {
+    try {
+      return new ProviderCompletable(provider, requestScope(), null);
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      return new ProviderCompletable(provider, null, e);
+    }
+  }
+
+  /**
+   * Returns whether subscribing is known to end the scope right away, either because the resolved
+   * scope has already ended or because requesting it threw.
+   */
+  boolean hasEnded() {
+    CompletableSource scope = resolvedScope;
+    return resolveError != null || (scope != null && EndedScopes.hasEnded(scope));
+  }
+
+  @Override
+  protected void subscribeActual(CompletableObserver observer) {
+    CompletableSource scope;
+    try {
+      scope = scope();
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      observer.onSubscribe(Disposable.disposed());
+      observer.onError(e);
+      return;
+    }
+    scope.subscribe(observer);
+  }
+
+  private CompletableSource scope() throws Throwable {
+    try {
+      CompletableSource scope = resolvedScope;
+      if (scope != null) {
+        return scope;
+      }
+      Throwable error = resolveError;
+      if (error != null) {
+        throw error;
+      }
+      return requestScope();
+    } catch (OutsideScopeException e) {
+      AutoDisposePlugins.onOutsideScope(e);
+      Consumer<? super OutsideScopeException> handler = AutoDisposePlugins.getOutsideScopeHandler();
+      if (handler != null) {
+        handler.accept(e);
+        return Completable.complete();
+      } else {
+        return Completable.error(e);
+      }
+    }
+  }
+
+  private CompletableSource requestScope() throws Exception {
+    return checkNotNull(provider.requestScope(), "The provider returned a null scope");
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.lang.ref.WeakReference;
+import org.reactivestreams.Subscription;
+
+/**
+ * Stands in for the delegate of an {@code AutoDisposing*Impl} once it has terminated or been
+ * disposed, so that the upstream holding on to the impl no longer keeps the real delegate (and
+ * whatever it captured) reachable. It drops anything that still reaches it in a race with the
+ * release, except for errors, which are undeliverable and go to {@link RxJavaPlugins}.
+ *
+ * <p>The real delegate is only held weakly, so the delegate accessors can keep returning it via
+ * {@link #unwrap(Object)} for as long as something else still references it.
+ */
+final class ReleasedDelegate extends WeakReference<Object>
+    implements Observer<Object>,
+        ConditionalSubscriber<Object>,
+        SingleObserver<Object>,
+        MaybeObserver<Object>,
+        CompletableObserver {
+
+  /** A stand-in that doesn't reference any delegate. */
+  static final ReleasedDelegate EMPTY = new ReleasedDelegate(null);
+
+  /** Returns a stand-in for {@code delegate}, or {@code delegate} if it already is one. */
+  static ReleasedDelegate of(Object delegate) {
+    return delegate instanceof ReleasedDelegate
+        ? (ReleasedDelegate) delegate
+        : new ReleasedDelegate(delegate);
+  }
+
+  /**
+   * Returns the real delegate if {@code delegate} is a stand-in whose delegate is still reachable,
+   * or {@code delegate} itself otherwise.
+   */
+  @SuppressWarnings("unchecked") // A stand-in for a D only ever references that D
+  static <D> D unwrap(D delegate) {
+    if (delegate instanceof ReleasedDelegate) {
+      Object released = ((ReleasedDelegate) delegate).get();
+      if (released != null) {
+        return (D) released;
+      }
+    }
+    return delegate;
+  }
+
+  private ReleasedDelegate(@Nullable Object delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    d.dispose();
+  }
+
+  @Override
+  public void onSubscribe(Subscription s) {
+    s.cancel();
+  }
+
+  @Override
+  public void onNext(Object value) {}
+
+  @Override
+  public boolean tryOnNext(Object value) {
+    return false;
+  }
+
+  @Override
+  public void onSuccess(Object value) {}
+
+  @Override
+  public void onError(Throwable e) {
+    RxJavaPlugins.onError(e);
+  }
+
+  @Override
+  public void onComplete() {}
+}
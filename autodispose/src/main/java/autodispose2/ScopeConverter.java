@@ -0,0 +1,397 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+import static autodispose2.Scopes.completableOf;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Action;
+import io.reactivex.rxjava3.functions.BiConsumer;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.parallel.ParallelFlowable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import org.reactivestreams.Subscriber;
+
+/**
+ * The {@link AutoDisposeConverter} returned by {@link
+ * AutoDispose#autoDisposable(CompletableSource)} and {@link
+ * AutoDispose#weakAutoDisposable(CompletableSource)}.
+ *
+ * <p>This holds nothing but the scope, so one instance can be reused for any number of streams.
+ * Every {@code apply} creates exactly one {@code AutoDispose*} operator. When {@link
+ * AutoDisposePlugins#getHideProxies()} is set, it's wrapped in one of the named proxies below,
+ * which forward every subscribe overload to that same operator rather than creating a new one per
+ * subscription. Their {@code subscribe(Consumer...)} overloads subscribe fused {@code
+ * AutoDisposingLambda*} observers, so each of those allocates a single observer.
+ *
+ * <p>With {@code weakDelegates} set, as for {@link
+ * AutoDispose#weakAutoDisposable(CompletableSource)}, the {@link Observable} and {@link Flowable}
+ * operators hold their delegates weakly. The operators for every other type are the same either
+ * way.
+ */
+final class ScopeConverter<@NonNull T> implements AutoDisposeConverter<T> {
+
+  private final CompletableSource scope;
+  private final boolean weakDelegates;
+
+  ScopeConverter(CompletableSource scope) {
+    this(scope, false);
+  }
+
+  ScopeConverter(CompletableSource scope, boolean weakDelegates) {
+    this.scope = scope;
+    this.weakDelegates = weakDelegates;
+  }
+
+  @Override
+  public ParallelFlowableSubscribeProxy<T> apply(ParallelFlowable<T> upstream) {
+    AutoDisposeParallelFlowable<T> parallel = new AutoDisposeParallelFlowable<>(upstream, scope);
+    if (!AutoDisposePlugins.hideProxies) {
+      return parallel;
+    }
+    return new HiddenParallelFlowableProxy<>(parallel);
+  }
+
+  @Override
+  public CompletableSubscribeProxy apply(Completable upstream) {
+    AutoDisposeCompletable completable = new AutoDisposeCompletable(upstream, scope);
+    if (!AutoDisposePlugins.hideProxies) {
+      return completable;
+    }
+    return new HiddenCompletableProxy(completable);
+  }
+
+  @Override
+  public FlowableSubscribeProxy<T> apply(Flowable<T> upstream) {
+    AutoDisposeFlowable<T> flowable = new AutoDisposeFlowable<>(upstream, scope, weakDelegates);
+    if (!AutoDisposePlugins.hideProxies) {
+      return flowable;
+    }
+    return new HiddenFlowableProxy<>(flowable);
+  }
+
+  @Override
+  public MaybeSubscribeProxy<T> apply(Maybe<T> upstream) {
+    AutoDisposeMaybe<T> maybe = new AutoDisposeMaybe<>(upstream, scope);
+    if (!AutoDisposePlugins.hideProxies) {
+      return maybe;
+    }
+    return new HiddenMaybeProxy<>(maybe);
+  }
+
+  @Override
+  public ObservableSubscribeProxy<T> apply(Observable<T> upstream) {
+    AutoDisposeObservable<T> observable =
+        new AutoDisposeObservable<>(upstream, scope, weakDelegates);
+    if (!AutoDisposePlugins.hideProxies) {
+      return observable;
+    }
+    return new HiddenObservableProxy<>(observable);
+  }
+
+  @Override
+  public SingleSubscribeProxy<T> apply(Single<T> upstream) {
+    AutoDisposeSingle<T> single = new AutoDisposeSingle<>(upstream, scope);
+    if (!AutoDisposePlugins.hideProxies) {
+      return single;
+    }
+    return new HiddenSingleProxy<>(single);
+  }
+
+  static final class HiddenParallelFlowableProxy<@NonNull T>
+      implements ParallelFlowableSubscribeProxy<T> {
+    private final AutoDisposeParallelFlowable<T> parallel;
+
+    HiddenParallelFlowableProxy(AutoDisposeParallelFlowable<T> parallel) {
+      this.parallel = parallel;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T>[] subscribers) {
+      parallel.subscribe(subscribers);
+    }
+  }
+
+  static final class HiddenCompletableProxy implements CompletableSubscribeProxy {
+    private final AutoDisposeCompletable completable;
+
+    HiddenCompletableProxy(AutoDisposeCompletable completable) {
+      this.completable = completable;
+    }
+
+    @Override
+    public Disposable subscribe() {
+      return completable.subscribe();
+    }
+
+    @Override
+    public Disposable subscribe(Action action) {
+      return completable.subscribeLambda(action, null);
+    }
+
+    @Override
+    public Disposable subscribe(Action action, Consumer<? super Throwable> onError) {
+      return completable.subscribeLambda(action, checkNotNull(onError, "onError is null"));
+    }
+
+    @Override
+    public void subscribe(CompletableObserver observer) {
+      completable.subscribe(observer);
+    }
+
+    @Override
+    public <@NonNull E extends CompletableObserver> E subscribeWith(E observer) {
+      return completable.subscribeWith(observer);
+    }
+
+    @Override
+    public TestObserver<Void> test() {
+      return completable.test();
+    }
+
+    @Override
+    public TestObserver<Void> test(boolean dispose) {
+      return completable.test(dispose);
+    }
+  }
+
+  static final class HiddenFlowableProxy<@NonNull T> implements FlowableSubscribeProxy<T> {
+    private final AutoDisposeFlowable<T> flowable;
+
+    HiddenFlowableProxy(AutoDisposeFlowable<T> flowable) {
+      this.flowable = flowable;
+    }
+
+    @Override
+    public Disposable subscribe() {
+      return flowable.subscribe();
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onNext) {
+      return flowable.subscribeLambda(onNext, null, null);
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError) {
+      return flowable.subscribeLambda(onNext, checkNotNull(onError, "onError is null"), null);
+    }
+
+    @Override
+    public Disposable subscribe(
+        Consumer<? super T> onNext, Consumer<? super Throwable> onError, Action onComplete) {
+      return flowable.subscribeLambda(
+          onNext,
+          checkNotNull(onError, "onError is null"),
+          checkNotNull(onComplete, "onComplete is null"));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> observer) {
+      flowable.subscribe(observer);
+    }
+
+    @Override
+    public <@NonNull E extends Subscriber<? super T>> E subscribeWith(E observer) {
+      return flowable.subscribeWith(observer);
+    }
+
+    @Override
+    public TestSubscriber<T> test() {
+      return flowable.test();
+    }
+
+    @Override
+    public TestSubscriber<T> test(long initialRequest) {
+      return flowable.test(initialRequest);
+    }
+
+    @Override
+    public TestSubscriber<T> test(long initialRequest, boolean cancel) {
+      return flowable.test(initialRequest, cancel);
+    }
+  }
+
+  static final class HiddenMaybeProxy<@NonNull T> implements MaybeSubscribeProxy<T> {
+    private final AutoDisposeMaybe<T> maybe;
+
+    HiddenMaybeProxy(AutoDisposeMaybe<T> maybe) {
+      this.maybe = maybe;
+    }
+
+    @Override
+    public Disposable subscribe() {
+      return maybe.subscribe();
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onSuccess) {
+      return maybe.subscribeLambda(onSuccess, null, null);
+    }
+
+    @Override
+    public Disposable subscribe(
+        Consumer<? super T> onSuccess, Consumer<? super Throwable> onError) {
+      return maybe.subscribeLambda(onSuccess, checkNotNull(onError, "onError is null"), null);
+    }
+
+    @Override
+    public Disposable subscribe(
+        Consumer<? super T> onSuccess, Consumer<? super Throwable> onError, Action onComplete) {
+      return maybe.subscribeLambda(
+          onSuccess,
+          checkNotNull(onError, "onError is null"),
+          checkNotNull(onComplete, "onComplete is null"));
+    }
+
+    @Override
+    public void subscribe(MaybeObserver<? super T> observer) {
+      maybe.subscribe(observer);
+    }
+
+    @Override
+    public <@NonNull E extends MaybeObserver<? super T>> E subscribeWith(E observer) {
+      return maybe.subscribeWith(observer);
+    }
+
+    @Override
+    public TestObserver<T> test() {
+      return maybe.test();
+    }
+
+    @Override
+    public TestObserver<T> test(boolean dispose) {
+      return maybe.test(dispose);
+    }
+  }
+
+  static final class HiddenObservableProxy<@NonNull T> implements ObservableSubscribeProxy<T> {
+    private final AutoDisposeObservable<T> observable;
+
+    HiddenObservableProxy(AutoDisposeObservable<T> observable) {
+      this.observable = observable;
+    }
+
+    @Override
+    public Disposable subscribe() {
+      return observable.subscribe();
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onNext) {
+      return observable.subscribeLambda(onNext, null, null);
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError) {
+      return observable.subscribeLambda(onNext, checkNotNull(onError, "onError is null"), null);
+    }
+
+    @Override
+    public Disposable subscribe(
+        Consumer<? super T> onNext, Consumer<? super Throwable> onError, Action onComplete) {
+      return observable.subscribeLambda(
+          onNext,
+          checkNotNull(onError, "onError is null"),
+          checkNotNull(onComplete, "onComplete is null"));
+    }
+
+    @Override
+    public void subscribe(Observer<? super T> observer) {
+      observable.subscribe(observer);
+    }
+
+    @Override
+    public <@NonNull E extends Observer<? super T>> E subscribeWith(E observer) {
+      return observable.subscribeWith(observer);
+    }
+
+    @Override
+    public TestObserver<T> test() {
+      return observable.test();
+    }
+
+    @Override
+    public TestObserver<T> test(boolean dispose) {
+      return observable.test(dispose);
+    }
+  }
+
+  static final class HiddenSingleProxy<@NonNull T> implements SingleSubscribeProxy<T> {
+    private final AutoDisposeSingle<T> single;
+
+    HiddenSingleProxy(AutoDisposeSingle<T> single) {
+      this.single = single;
+    }
+
+    @Override
+    public Disposable subscribe() {
+      return single.subscribe();
+    }
+
+    @Override
+    public Disposable subscribe(Consumer<? super T> onSuccess) {
+      return single.subscribeLambda(onSuccess, null);
+    }
+
+    @SuppressWarnings("NullAway") // False positive
+    @Override
+    public Disposable subscribe(
+        BiConsumer<@Nullable ? super T, @Nullable ? super Throwable> biConsumer) {
+      return single.subscribe(biConsumer);
+    }
+
+    @Override
+    public Disposable subscribe(
+        Consumer<? super T> onSuccess, Consumer<? super Throwable> onError) {
+      return single.subscribeLambda(onSuccess, checkNotNull(onError, "onError is null"));
+    }
+
+    @Override
+    public void subscribe(SingleObserver<? super T> observer) {
+      single.subscribe(observer);
+    }
+
+    @Override
+    public <@NonNull E extends SingleObserver<? super T>> E subscribeWith(E observer) {
+      return single.subscribeWith(observer);
+    }
+
+    @Override
+    public TestObserver<T> test() {
+      return single.test();
+    }
+
+    @Override
+    public TestObserver<T> test(boolean dispose) {
+      return single.test(dispose);
+    }
+  }
+}
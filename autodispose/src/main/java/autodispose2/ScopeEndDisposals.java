@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.Exceptions;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.reactivestreams.Subscription;
+
+/**
+ * Disposes upstreams whose scope has ended, batching the work if {@link
+ * AutoDisposePlugins#setScopeEndDisposalScheduler(Scheduler)} is set.
+ *
+ * <p>Without a scheduler this is equivalent to disposing in place. With one, the field is still
+ * swapped to its disposed marker synchronously, so the AutoDispose observer drops any further
+ * upstream events right away, but the upstream {@link Disposable} or {@link Subscription} is
+ * queued instead. Everything queued while one drain is pending, which includes every stream bound
+ * to a scope that just ended, is then disposed in a single task on the scheduler. If a time budget
+ * is set, the task stops once it's exceeded and reschedules itself for the rest, yielding the
+ * scheduler's thread in between.
+ *
+ * <p>There's a single queue for the whole process, not one per scheduler. Each task is scheduled
+ * on whichever scheduler is set at the time, so if the plugin changes while a batch is pending,
+ * that task still runs on the old scheduler and only its continuations move to the new one. If the
+ * plugin is cleared meanwhile, the task disposes the rest in place.
+ */
+final class ScopeEndDisposals {
+
+  private static final Queue<Object> QUEUE = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger WIP = new AtomicInteger();
+
+  /** Scope end equivalent of {@link AutoDisposableHelper#dispose(AtomicReference)}. */
+  static boolean dispose(AtomicReference<Disposable> field) {
+    Scheduler scheduler = AutoDisposePlugins.scopeEndDisposalScheduler;
+    if (scheduler == null) {
+      return AutoDisposableHelper.dispose(field);
+    }
+    Disposable current = field.get();
+    if (current != AutoDisposableHelper.DISPOSED) {
+      current = field.getAndSet(AutoDisposableHelper.DISPOSED);
+      if (current != AutoDisposableHelper.DISPOSED) {
+        if (current != null) {
+          enqueue(current, scheduler);
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Scope end equivalent of {@link AutoDisposableHelper#dispose(AtomicReferenceFieldUpdater,
+   * Object)}.
+   */
+  static <O> boolean dispose(AtomicReferenceFieldUpdater<O, Disposable> field, O instance) {
+    Scheduler scheduler = AutoDisposePlugins.scopeEndDisposalScheduler;
+    if (scheduler == null) {
+      return AutoDisposableHelper.dispose(field, instance);
+    }
+    Disposable current = field.get(instance);
+    if (current != AutoDisposableHelper.DISPOSED) {
+      current = field.getAndSet(instance, AutoDisposableHelper.DISPOSED);
+      if (current != AutoDisposableHelper.DISPOSED) {
+        if (current != null) {
+          enqueue(current, scheduler);
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Scope end equivalent of {@link AutoSubscriptionHelper#cancel(AtomicReference)}. */
+  static boolean cancel(AtomicReference<Subscription> field) {
+    Scheduler scheduler = AutoDisposePlugins.scopeEndDisposalScheduler;
+    if (scheduler == null) {
+      return AutoSubscriptionHelper.cancel(field);
+    }
+    Subscription current = field.get();
+    if (current != AutoSubscriptionHelper.CANCELLED) {
+      current = field.getAndSet(AutoSubscriptionHelper.CANCELLED);
+      if (current != AutoSubscriptionHelper.CANCELLED) {
+        if (current != null) {
+          enqueue(current, scheduler);
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void enqueue(Object upstream, Scheduler scheduler) {
+    QUEUE.offer(upstream);
+    if (WIP.getAndIncrement() == 0) {
+      scheduler.scheduleDirect(Drain.INSTANCE);
+    }
+  }
+
+  private static void disposeUpstream(Object upstream) {
+    try {
+      if (upstream instanceof Subscription) {
+        ((Subscription) upstream).cancel();
+      } else {
+        ((Disposable) upstream).dispose();
+      }
+    } catch (Throwable e) {
+      Exceptions.throwIfFatal(e);
+      RxJavaPlugins.onError(e);
+    }
+  }
+
+  /**
+   * Drains the queue. Only one is pending or running at a time; it keeps hold of the work counter
+   * when it reschedules itself, so new scope ends just add to the queue it's working through.
+   */
+  static final class Drain implements Runnable {
+    static final Drain INSTANCE = new Drain();
+
+    @Override
+    public void run() {
+      long budget = AutoDisposePlugins.scopeEndDisposalBudgetNanos;
+      long deadline = budget > 0 ? System.nanoTime() + budget : 0;
+      int missed = 1;
+      for (; ; ) {
+        Object upstream;
+        while ((upstream = QUEUE.poll()) != null) {
+          disposeUpstream(upstream);
+          if (deadline != 0 && System.nanoTime() - deadline >= 0 && !QUEUE.isEmpty()) {
+            Scheduler scheduler = AutoDisposePlugins.scopeEndDisposalScheduler;
+            if (scheduler != null) {
+              scheduler.scheduleDirect(this);
+              return;
+            }
+            deadline = 0;
+          }
+        }
+        missed = WIP.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+  }
+
+  private ScopeEndDisposals() {
+    throw new AssertionError("No instances");
+  }
+}
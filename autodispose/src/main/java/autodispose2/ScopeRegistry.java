@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free registry of the observers of a shared scope.
+ *
+ * <p>Registration pushes an intrusive node onto a stack with a single CAS. Disposing a node is
+ * constant time: it releases the node's observer and bumps a counter. Disposed nodes are unlinked
+ * in bulk by whichever thread pushes the disposed count past half of the registry, which keeps the
+ * stack proportional to the live observers and removal amortized O(1), unlike the copy-on-write
+ * arrays of RxJava's subjects. Termination detaches the whole stack at once and hands it to the
+ * caller to walk.
+ */
+final class ScopeRegistry {
+
+  /** Don't bother compacting tiny registries. */
+  private static final int MIN_COMPACTION_SIZE = 16;
+
+  /** Sentinel head indicating the registry has terminated. */
+  private static final Node TERMINATED = new Node(null, null);
+
+  private static final AtomicReferenceFieldUpdater<ScopeRegistry, Node> HEAD =
+      AtomicReferenceFieldUpdater.newUpdater(ScopeRegistry.class, Node.class, "head");
+
+  private static final AtomicIntegerFieldUpdater<ScopeRegistry> SIZE =
+      AtomicIntegerFieldUpdater.newUpdater(ScopeRegistry.class, "size");
+
+  private static final AtomicIntegerFieldUpdater<ScopeRegistry> DISPOSED =
+      AtomicIntegerFieldUpdater.newUpdater(ScopeRegistry.class, "disposed");
+
+  private static final AtomicIntegerFieldUpdater<ScopeRegistry> WIP =
+      AtomicIntegerFieldUpdater.newUpdater(ScopeRegistry.class, "wip");
+
+  @Nullable private volatile Node head;
+
+  /** Number of linked nodes, live or disposed. */
+  private volatile int size;
+
+  /** Number of linked nodes that have been disposed but not unlinked yet. */
+  private volatile int disposed;
+
+  private volatile int wip;
+
+  /** Called each time a registered observer disposes its node. */
+  private final Runnable onNodeDisposed;
+
+  ScopeRegistry(Runnable onNodeDisposed) {
+    this.onNodeDisposed = onNodeDisposed;
+  }
+
+  /**
+   * Registers {@code observer}, returning its node or {@code null} if the registry has already
+   * terminated.
+   */
+  @Nullable
+  Node add(CompletableObserver observer) {
+    Node node = new Node(this, observer);
+    for (; ; ) {
+      Node current = head;
+      if (current == TERMINATED) {
+        return null;
+      }
+      node.next = current;
+      if (HEAD.compareAndSet(this, current, node)) {
+        SIZE.getAndIncrement(this);
+        return node;
+      }
+    }
+  }
+
+  /**
+   * Terminates the registry and returns the nodes registered up to now, linked through {@link
+   * Node#next}. Subsequent {@link #add(CompletableObserver)} calls will fail.
+   */
+  @Nullable
+  Node terminate() {
+    Node current = HEAD.getAndSet(this, TERMINATED);
+    return current == TERMINATED ? null : current;
+  }
+
+  /** Returns whether or not {@link #terminate()} was called. */
+  boolean isTerminated() {
+    return head == TERMINATED;
+  }
+
+  @SuppressWarnings("WeakerAccess") // Package private for synthetic accessor saving
+  void onNodeDisposed() {
+    int d = DISPOSED.incrementAndGet(this);
+    if (d >= MIN_COMPACTION_SIZE && d >= size >> 1) {
+      compact();
+    }
+    onNodeDisposed.run();
+  }
+
+  /**
+   * Unlinks disposed nodes. Only one thread compacts at a time, and pushes only ever touch the
+   * head, so interior links are never contended. The current head is left in place; it's unlinked
+   * by a later pass once other nodes are pushed on top of it. Concurrent walkers always see a
+   * chain that contains every live node, as unlinked nodes keep pointing forward.
+   */
+  private void compact() {
+    if (WIP.getAndIncrement(this) != 0) {
+      return;
+    }
+    int missed = 1;
+    for (; ; ) {
+      Node prev = head;
+      // Nothing left to unlink once terminated, but still go through the missed accounting below
+      if (prev != null && prev != TERMINATED) {
+        int removed = 0;
+        Node current = prev.next;
+        while (current != null) {
+          Node next = current.next;
+          if (current.isDisposed()) {
+            prev.next = next;
+            removed++;
+          } else {
+            prev = current;
+          }
+          current = next;
+        }
+        SIZE.addAndGet(this, -removed);
+        DISPOSED.addAndGet(this, -removed);
+      }
+
+      missed = WIP.addAndGet(this, -missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * A registered observer. Claiming the observer reference is what delivers at most one terminal
+   * event to it, so disposal can race with termination safely.
+   */
+  static final class Node extends AtomicReference<CompletableObserver> implements Disposable {
+
+    private static final long serialVersionUID = -5217428406962547432L;
+
+    @Nullable private final ScopeRegistry registry;
+    @Nullable volatile Node next;
+
+    Node(@Nullable ScopeRegistry registry, @Nullable CompletableObserver observer) {
+      super(observer);
+      this.registry = registry;
+    }
+
+    /** Atomically claims the observer for delivering a terminal event, or null if disposed. */
+    @Nullable
+    CompletableObserver claim() {
+      return getAndSet(null);
+    }
+
+    @Override
+    public void dispose() {
+      if (get() != null && getAndSet(null) != null && registry != null) {
+        registry.onNodeDisposed();
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return get() == null;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link Scheduler} returned by {@link Scopes#scopedScheduler(Scheduler, CompletableSource)}.
+ *
+ * <p>Every worker it creates wraps one of the delegate's, and is tracked in a single {@link
+ * CompositeDisposable} until it's disposed. Once the scope ends, disposing that composite disposes
+ * every live worker at once, and each of those drops all of its pending tasks along with it.
+ * Workers created after that are disposed from the start. {@link #shutdown()} does the same right
+ * away, and also disposes the subscription to the scope.
+ */
+final class ScopedScheduler extends Scheduler implements CompletableObserver {
+
+  private final Scheduler delegate;
+  private final CompositeDisposable workers = new CompositeDisposable();
+  private final AtomicReference<Disposable> scopeDisposable = new AtomicReference<>();
+
+  ScopedScheduler(Scheduler delegate, CompletableSource scope) {
+    this.delegate = delegate;
+    scope.subscribe(this);
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    AutoDisposeEndConsumerHelper.setOnce(scopeDisposable, d, getClass());
+  }
+
+  @Override
+  public void onComplete() {
+    scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+    workers.dispose();
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    // An error from the scope ends it too, just like it does for the streams bound to it. There's
+    // no downstream to deliver it to, so it goes to RxJavaPlugins.
+    scopeDisposable.lazySet(AutoDisposableHelper.DISPOSED);
+    workers.dispose();
+    RxJavaPlugins.onError(e);
+  }
+
+  @Override
+  public void shutdown() {
+    AutoDisposableHelper.dispose(scopeDisposable);
+    workers.dispose();
+  }
+
+  @Override
+  public Worker createWorker() {
+    ScopedWorker worker = new ScopedWorker(delegate.createWorker());
+    // Disposes the worker right away if the scope has already ended
+    workers.add(worker);
+    return worker;
+  }
+
+  @Override
+  public long now(TimeUnit unit) {
+    return delegate.now(unit);
+  }
+
+  final class ScopedWorker extends Worker {
+    private final Worker worker;
+
+    ScopedWorker(Worker worker) {
+      this.worker = worker;
+    }
+
+    @Override
+    public Disposable schedule(@NonNull Runnable run, long delay, @NonNull TimeUnit unit) {
+      return worker.schedule(run, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(
+        @NonNull Runnable run, long initialDelay, long period, @NonNull TimeUnit unit) {
+      return worker.schedulePeriodically(run, initialDelay, period, unit);
+    }
+
+    @Override
+    public long now(@NonNull TimeUnit unit) {
+      return worker.now(unit);
+    }
+
+    @Override
+    public void dispose() {
+      if (!worker.isDisposed()) {
+        worker.dispose();
+        workers.delete(this);
+      }
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return worker.isDisposed();
+    }
+  }
+}
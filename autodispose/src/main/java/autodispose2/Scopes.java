@@ -15,8 +15,11 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+
 import io.reactivex.rxjava3.core.Completable;
-import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Scheduler;
 
 /** Utilities for dealing with AutoDispose scopes. */
 public final class Scopes {
@@ -28,20 +31,101 @@ public final class Scopes {
    * deferred appropriately and handle {@link OutsideScopeException OutsideScopeExceptions}.
    */
   public static Completable completableOf(ScopeProvider scopeProvider) {
-    return Completable.defer(
-        () -> {
-          try {
-            return scopeProvider.requestScope();
-          } catch (OutsideScopeException e) {
-            Consumer<? super OutsideScopeException> handler =
-                AutoDisposePlugins.getOutsideScopeHandler();
-            if (handler != null) {
-              handler.accept(e);
-              return Completable.complete();
-            } else {
-              return Completable.error(e);
-            }
-          }
-        });
+    return new ProviderCompletable(scopeProvider);
+  }
+
+  /**
+   * Returns a {@link ScopeProvider} that resolves {@code scopeProvider} lazily on first use and
+   * then shares a single subscription to that scope among all of its subscribers. See {@link
+   * #share(CompletableSource)} for details.
+   *
+   * <p><em>Note:</em> The scope is resolved once per shared subscription, which is only renewed
+   * after every subscriber has left, so this is only appropriate for providers whose scope doesn't
+   * depend on when it is requested. A {@code LifecycleScopeProvider}, for instance, resolves a
+   * different end event depending on the lifecycle state at subscription time.
+   */
+  public static ScopeProvider share(ScopeProvider scopeProvider) {
+    Completable shared = share(completableOf(scopeProvider));
+    return () -> shared;
+  }
+
+  /**
+   * Returns a {@link Completable} that holds a single subscription to {@code scope} while it has
+   * subscribers, and multicasts the scope's terminal event to every subscriber. Subscribing to it
+   * is constant time no matter how many subscribers are already registered, and subscribers after
+   * the scope has terminated receive the terminal event immediately.
+   *
+   * <p>{@code scope} is subscribed on the first subscription. Once every subscriber has disposed,
+   * that subscription is disposed too, and the next subscriber subscribes to {@code scope} again.
+   *
+   * <p>This is useful when many streams are bound to the same scope, as the underlying scope (such
+   * as a lifecycle subject) then only ever sees a single observer.
+   */
+  public static Completable share(CompletableSource scope) {
+    return new SharedScopeCompletable(scope);
+  }
+
+  /**
+   * Returns a {@link Scheduler} that schedules on {@code scheduler} until the scope of {@code
+   * scopeProvider} ends. See {@link #scopedScheduler(Scheduler, CompletableSource)} for details.
+   */
+  public static Scheduler scopedScheduler(Scheduler scheduler, ScopeProvider scopeProvider) {
+    checkNotNull(scopeProvider, "scopeProvider == null");
+    return scopedScheduler(scheduler, completableOf(scopeProvider));
+  }
+
+  /**
+   * Returns a {@link Scheduler} that schedules on {@code scheduler} until {@code scope} ends, and
+   * then drops every task still pending on it. Disposing a subscription when its scope ends stops
+   * new work, but tasks that {@code observeOn} or {@code subscribeOn} already queued would
+   * otherwise still run, possibly against views or components that are gone by then.
+   *
+   * <p>All of its workers are cancelled in one go when the scope ends, and workers created after
+   * that never run anything. A task that is already running when the scope ends still runs to
+   * completion. The scope is subscribed to right away, so create the scheduler once per scope.
+   * {@link Scheduler#shutdown()} ends it early, and disposes that subscription too. An error from
+   * the scope ends it as well, and is sent to {@link
+   * io.reactivex.rxjava3.plugins.RxJavaPlugins#onError(Throwable)}.
+   *
+   * <p>Example usage:
+   *
+   * <pre><code>
+   *   Scheduler main = Scopes.scopedScheduler(AndroidSchedulers.mainThread(), scope);
+   *   results
+   *        .observeOn(main)
+   *        .to(autoDisposable(scope))
+   *        .subscribe(view::render);
+   * </code></pre>
+   */
+  public static Scheduler scopedScheduler(Scheduler scheduler, CompletableSource scope) {
+    checkNotNull(scheduler, "scheduler == null");
+    checkNotNull(scope, "scope == null");
+    return new ScopedScheduler(scheduler, scope);
+  }
+
+  /**
+   * Returns the {@link ScopeProvider} that {@code scope} was created from by {@link
+   * #completableOf(ScopeProvider)}, or {@code scope} itself otherwise. This is meant for telling
+   * scopes apart in diagnostics, such as in an {@link AutoDisposeListener}.
+   */
+  public static Object originOf(CompletableSource scope) {
+    return scope instanceof ProviderCompletable ? ((ProviderCompletable) scope).provider : scope;
+  }
+
+  /**
+   * Returns a {@link ScopeProvider} whose scope ends once {@code owner} has been garbage collected,
+   * for components that have no explicit lifecycle to bind to and would otherwise have to use
+   * {@link ScopeProvider#UNBOUND}. The scope is shared as with {@link #share(CompletableSource)},
+   * and ends on a single background thread that waits for collected owners.
+   *
+   * <p><em>Note:</em> The owner can only be collected if the streams bound to it don't keep it
+   * reachable. A subscriber that captures the owner, subscribed to a source that outlives it, does
+   * exactly that, so such subscribers should either not capture the owner or be subscribed with
+   * {@link AutoDispose#weakAutoDisposable(ScopeProvider)} and held by the owner.
+   */
+  public static ScopeProvider untilCollected(Object owner) {
+    checkNotNull(owner, "owner == null");
+    Completable scope = share(CollectedOwnerScope.of(owner));
+    return () -> scope;
   }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Completable} that keeps at most one subscription to its source scope, no matter how
+ * many observers it has, and fans the source's terminal event out to all of them in a single pass.
+ * Observers are tracked in a {@link ScopeRegistry}, so both subscribing and disposing are constant
+ * time.
+ *
+ * <p>The source is subscribed when the first observer arrives and disposed once every observer has
+ * disposed, so an idle instance doesn't keep its scope's observer list populated. The next observer
+ * subscribes to the source again. Only the 0 to 1 and 1 to 0 transitions take a lock.
+ */
+final class SharedScopeCompletable extends Completable {
+
+  private static final AtomicIntegerFieldUpdater<SharedScopeCompletable> OBSERVERS =
+      AtomicIntegerFieldUpdater.newUpdater(SharedScopeCompletable.class, "observers");
+
+  private final CompletableSource source;
+  private final ScopeRegistry registry = new ScopeRegistry(this::onObserverDisposed);
+
+  /** Number of registered observers that haven't disposed. */
+  private volatile int observers;
+
+  /** The current subscription to the source, guarded by {@code this}. */
+  @Nullable private Connection connection;
+
+  @Nullable private volatile Throwable error;
+
+  SharedScopeCompletable(CompletableSource source) {
+    this.source = source;
+  }
+
+  @Override
+  protected void subscribeActual(CompletableObserver observer) {
+    ScopeRegistry.Node node = registry.add(observer);
+    if (node == null) {
+      observer.onSubscribe(Disposable.disposed());
+      terminate(observer);
+      return;
+    }
+    boolean first = OBSERVERS.getAndIncrement(this) == 0;
+    observer.onSubscribe(node);
+    if (first) {
+      connect();
+    }
+  }
+
+  /** Returns whether the source scope has already ended. */
+  boolean hasEnded() {
+    return registry.isTerminated();
+  }
+
+  private void onObserverDisposed() {
+    if (OBSERVERS.decrementAndGet(this) == 0) {
+      disconnect();
+    }
+  }
+
+  /**
+   * Subscribes to the source unless already subscribed. The observer count is rechecked under the
+   * lock, as the last observer may have left again since this was triggered.
+   */
+  private void connect() {
+    Connection c;
+    synchronized (this) {
+      if (connection != null || observers == 0 || registry.isTerminated()) {
+        return;
+      }
+      c = new Connection();
+      connection = c;
+    }
+    source.subscribe(c);
+  }
+
+  /** Disposes the source subscription unless an observer arrived since this was triggered. */
+  private void disconnect() {
+    Connection c;
+    synchronized (this) {
+      c = connection;
+      if (c == null || observers != 0) {
+        return;
+      }
+      connection = null;
+    }
+    AutoDisposableHelper.dispose(c);
+  }
+
+  private void drain() {
+    ScopeRegistry.Node node = registry.terminate();
+    while (node != null) {
+      CompletableObserver observer = node.claim();
+      if (observer != null) {
+        terminate(observer);
+      }
+      node = node.next;
+    }
+  }
+
+  private void terminate(CompletableObserver observer) {
+    Throwable e = error;
+    if (e != null) {
+      observer.onError(e);
+    } else {
+      observer.onComplete();
+    }
+  }
+
+  /**
+   * One subscription to the source. Events that arrive after it was disconnected don't end the
+   * shared scope; errors go to {@link RxJavaPlugins#onError(Throwable)} instead.
+   */
+  final class Connection extends AtomicReference<Disposable> implements CompletableObserver {
+
+    private static final long serialVersionUID = -3170936358425781352L;
+
+    @Override
+    public void onSubscribe(Disposable d) {
+      AutoDisposeEndConsumerHelper.setOnce(this, d, getClass());
+    }
+
+    @Override
+    public void onComplete() {
+      if (get() != AutoDisposableHelper.DISPOSED) {
+        drain();
+      }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+      if (get() != AutoDisposableHelper.DISPOSED) {
+        error = e;
+        drain();
+      } else {
+        RxJavaPlugins.onError(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.lang.ref.WeakReference;
+
+/**
+ * Forwards to a weakly held delegate, and disposes the upstream on the first signal after that
+ * delegate was collected. Used in front of the delegates of {@link AutoDisposeObservable}s from
+ * {@link AutoDispose#weakAutoDisposable(io.reactivex.rxjava3.core.CompletableSource)}.
+ */
+final class WeakDelegateObserver<@NonNull T> implements Observer<T> {
+  private final WeakReference<Observer<? super T>> delegate;
+  @Nullable private Disposable upstream;
+
+  WeakDelegateObserver(Observer<? super T> delegate) {
+    this.delegate = new WeakReference<>(delegate);
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    upstream = d;
+    Observer<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      d.dispose();
+    } else {
+      delegate.onSubscribe(d);
+    }
+  }
+
+  @Override
+  public void onNext(T value) {
+    Observer<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      Disposable upstream = this.upstream;
+      if (upstream != null) {
+        upstream.dispose();
+      }
+    } else {
+      delegate.onNext(value);
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    Observer<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      RxJavaPlugins.onError(e);
+    } else {
+      delegate.onError(e);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    Observer<? super T> delegate = this.delegate.get();
+    if (delegate != null) {
+      delegate.onComplete();
+    }
+  }
+}
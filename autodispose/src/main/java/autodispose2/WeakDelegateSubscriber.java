@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import java.lang.ref.WeakReference;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Forwards to a weakly held delegate, and cancels the upstream on the first signal after that
+ * delegate was collected. Used in front of the delegates of {@link AutoDisposeFlowable}s from
+ * {@link AutoDispose#weakAutoDisposable(io.reactivex.rxjava3.core.CompletableSource)}.
+ */
+final class WeakDelegateSubscriber<@NonNull T> implements FlowableSubscriber<T> {
+  private final WeakReference<Subscriber<? super T>> delegate;
+  @Nullable private Subscription upstream;
+
+  WeakDelegateSubscriber(Subscriber<? super T> delegate) {
+    this.delegate = new WeakReference<>(delegate);
+  }
+
+  @Override
+  public void onSubscribe(Subscription s) {
+    upstream = s;
+    Subscriber<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      s.cancel();
+    } else {
+      delegate.onSubscribe(s);
+    }
+  }
+
+  @Override
+  public void onNext(T value) {
+    Subscriber<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      Subscription upstream = this.upstream;
+      if (upstream != null) {
+        upstream.cancel();
+      }
+    } else {
+      delegate.onNext(value);
+    }
+  }
+
+  @Override
+  public void onError(Throwable e) {
+    Subscriber<? super T> delegate = this.delegate.get();
+    if (delegate == null) {
+      RxJavaPlugins.onError(e);
+    } else {
+      delegate.onError(e);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    Subscriber<? super T> delegate = this.delegate.get();
+    if (delegate != null) {
+      delegate.onComplete();
+    }
+  }
+}
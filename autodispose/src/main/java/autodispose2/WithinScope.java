@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.AutoDisposeUtil.checkNotNull;
+import static autodispose2.Scopes.completableOf;
+
+import io.reactivex.rxjava3.annotations.NonNull;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableTransformer;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.ObservableTransformer;
+import org.reactivestreams.Publisher;
+
+/**
+ * Factories for operators that share a stream among the subscribers within a scope, and let go of
+ * it once that scope ends.
+ *
+ * <p>A {@code replay(1).autoConnect()} shared by the views of one screen, for example, keeps its
+ * upstream subscription and replay buffer around long after that screen is gone. Composing with
+ * {@link #cacheWithin(ScopeProvider)} instead disposes every subscription to the shared stream when
+ * the scope ends, which disconnects the upstream and drops the replay buffer. Like with {@link
+ * AutoDispose#autoDisposable(ScopeProvider)}, subscribers don't get a terminal event for this, and
+ * ones arriving after the scope ended get nothing at all. Subscribers are reference counted, so the
+ * upstream is also disconnected once the last of them is disposed, and connected again by the next
+ * one.
+ *
+ * <p>Example usage:
+ *
+ * <pre><code>
+ *   Observable&lt;User&gt; user = repository.user().compose(cacheWithin(scope)); // Static import
+ *   user.to(autoDisposable(scope)).subscribe(header::bind);
+ *   user.to(autoDisposable(scope)).subscribe(profile::bind); // Reuses the same request
+ * </code></pre>
+ */
+public final class WithinScope {
+
+  /** An {@link ObservableTransformer} and {@link FlowableTransformer} returned by this class. */
+  public interface Transformer<@NonNull T>
+      extends ObservableTransformer<T, T>, FlowableTransformer<T, T> {}
+
+  /**
+   * Returns a transformer that multicasts its upstream to every subscriber, like {@code share()},
+   * until the scope of {@code provider} ends.
+   */
+  public static <@NonNull T> Transformer<T> shareWithin(ScopeProvider provider) {
+    checkNotNull(provider, "provider == null");
+    return shareWithin(completableOf(provider));
+  }
+
+  /**
+   * Returns a transformer that multicasts its upstream to every subscriber, like {@code share()},
+   * until {@code scope} ends. At that point every subscription to the shared stream is disposed,
+   * without a terminal event, and its upstream is disconnected.
+   */
+  public static <@NonNull T> Transformer<T> shareWithin(CompletableSource scope) {
+    checkNotNull(scope, "scope == null");
+    return new WithinScopeTransformer<>(scope, false);
+  }
+
+  /**
+   * Returns a transformer that multicasts its upstream to every subscriber and replays the latest
+   * item to new ones, like {@code replay(1).refCount()}, until the scope of {@code provider} ends.
+   */
+  public static <@NonNull T> Transformer<T> cacheWithin(ScopeProvider provider) {
+    checkNotNull(provider, "provider == null");
+    return cacheWithin(completableOf(provider));
+  }
+
+  /**
+   * Returns a transformer that multicasts its upstream to every subscriber and replays the latest
+   * item to new ones, like {@code replay(1).refCount()}, until {@code scope} ends. At that point
+   * every subscription to the shared stream is disposed, without a terminal event, its upstream is
+   * disconnected, and the replayed item is dropped.
+   */
+  public static <@NonNull T> Transformer<T> cacheWithin(CompletableSource scope) {
+    checkNotNull(scope, "scope == null");
+    return new WithinScopeTransformer<>(scope, true);
+  }
+
+  private WithinScope() {
+    throw new InstantiationError();
+  }
+
+  /**
+   * Binds each subscription to the multicast upstream to the scope. Once the scope ends they're all
+   * disposed, which lets {@code refCount} disconnect and reset the connectable, so a replay buffer
+   * isn't kept for late subscribers.
+   */
+  static final class WithinScopeTransformer<@NonNull T> implements Transformer<T> {
+    private final CompletableSource scope;
+    private final boolean replay;
+
+    WithinScopeTransformer(CompletableSource scope, boolean replay) {
+      this.scope = scope;
+      this.replay = replay;
+    }
+
+    @Override
+    public Observable<T> apply(Observable<T> upstream) {
+      Observable<T> shared = replay ? upstream.replay(1).refCount() : upstream.share();
+      return new AutoDisposeObservable<>(shared, scope);
+    }
+
+    @Override
+    public Publisher<T> apply(Flowable<T> upstream) {
+      Flowable<T> shared = replay ? upstream.replay(1).refCount() : upstream.share();
+      return new AutoDisposeFlowable<>(shared, scope);
+    }
+  }
+}
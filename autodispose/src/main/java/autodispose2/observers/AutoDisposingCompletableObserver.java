@@ -27,6 +27,10 @@ public interface AutoDisposingCompletableObserver extends CompletableObserver, D
   /**
    * Returns the delegate {@link CompletableObserver} that is used under the hood for introspection
    * purposes.
+   *
+   * <p>The delegate is released once this has terminated or been disposed. After that, this still
+   * returns it for as long as something else references it, and a no-op stand-in once it has been
+   * garbage collected.
    */
   CompletableObserver delegateObserver();
 }
@@ -28,6 +28,10 @@ public interface AutoDisposingMaybeObserver<@NonNull T> extends MaybeObserver<T>
   /**
    * Returns the delegate {@link MaybeObserver} that is used under the hood for introspection
    * purposes.
+   *
+   * <p>The delegate is released once this has terminated or been disposed. After that, this still
+   * returns it for as long as something else references it, and a no-op stand-in once it has been
+   * garbage collected.
    */
   MaybeObserver<? super T> delegateObserver();
 }
@@ -27,6 +27,10 @@ public interface AutoDisposingObserver<@NonNull T> extends Observer<T>, Disposab
 
   /**
    * Returns the delegate {@link Observer} that is used under the hood for introspection purposes.
+   *
+   * <p>The delegate is released once this has terminated or been disposed. After that, this still
+   * returns it for as long as something else references it, and a no-op stand-in once it has been
+   * garbage collected.
    */
   Observer<? super T> delegateObserver();
 }
@@ -28,6 +28,10 @@ public interface AutoDisposingSingleObserver<@NonNull T> extends SingleObserver<
   /**
    * Returns the delegate {@link SingleObserver} that is used under the hood for introspection
    * purposes.
+   *
+   * <p>The delegate is released once this has terminated or been disposed. After that, this still
+   * returns it for as long as something else references it, and a no-op stand-in once it has been
+   * garbage collected.
    */
   SingleObserver<? super T> delegateObserver();
 }
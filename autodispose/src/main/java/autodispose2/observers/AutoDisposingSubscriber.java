@@ -30,6 +30,10 @@ public interface AutoDisposingSubscriber<@NonNull T>
 
   /**
    * Returns the delegate {@link Subscriber} that is used under the hood for introspection purposes.
+   *
+   * <p>The delegate is released once this has terminated or been cancelled. After that, this still
+   * returns it for as long as something else references it, and a no-op stand-in once it has been
+   * garbage collected.
    */
   Subscriber<? super T> delegateSubscriber();
 }
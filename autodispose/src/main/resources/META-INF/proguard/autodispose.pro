@@ -1,2 +1,7 @@
 # Top-level functions that can only be used by Kotlin.
 -dontwarn autodispose2.KotlinExtensions
+
+# Subscription state is updated through Atomic*FieldUpdaters, which look fields up by name.
+-keepclassmembers class autodispose2.AutoDisposing*Impl {
+  volatile <fields>;
+}
@@ -16,6 +16,7 @@
 package autodispose2;
 
 import static autodispose2.AutoDispose.autoDisposable;
+import static autodispose2.TestUtil.awaitCollected;
 import static autodispose2.TestUtil.outsideScopeProvider;
 import static com.google.common.truth.Truth.assertThat;
 
@@ -28,9 +29,15 @@ import io.reactivex.rxjava3.core.Observer;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.operators.QueueDisposable;
+import io.reactivex.rxjava3.operators.QueueFuseable;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.reactivex.rxjava3.subjects.CompletableSubject;
 import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subjects.UnicastSubject;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Rule;
@@ -127,6 +134,23 @@ public class AutoDisposeObserverTest extends PluginsMatrixTest {
     assertThat(scope.hasObservers()).isFalse();
   }
 
+  @Test
+  public void autoDispose_withScopeError_disposesUpstream() {
+    TestObserver<Integer> o = new TestObserver<>();
+    PublishSubject<Integer> source = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    source.to(autoDisposable(scope)).subscribe(o);
+
+    source.onNext(1);
+    scope.onError(new IllegalStateException("scope failed"));
+    source.onNext(2);
+
+    o.assertValue(1);
+    o.assertError(IllegalStateException.class);
+    assertThat(source.hasObservers()).isFalse();
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
   @SuppressWarnings("NullAway")
   @Test
   public void verifyObserverDelegate() {
@@ -193,6 +217,33 @@ public class AutoDisposeObserverTest extends PluginsMatrixTest {
     rule.assertNoErrors();
   }
 
+  @Test
+  public void autoDispose_withCompletedScope_neverSubscribesUpstream() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    scope.onComplete();
+    TestObserver<Integer> o = countingSource(subscriptions).to(autoDisposable(scope)).test();
+
+    assertThat(subscriptions.get()).isEqualTo(0);
+    o.assertNoValues();
+    o.assertNoErrors();
+    o.assertNotComplete();
+  }
+
+  @Test
+  public void autoDispose_withEndedScopeProvider_neverSubscribesUpstream() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    ScopeProvider provider = () -> scope;
+    scope.onComplete();
+    TestObserver<Integer> o = countingSource(subscriptions).to(autoDisposable(provider)).test();
+
+    assertThat(subscriptions.get()).isEqualTo(0);
+    o.assertNoValues();
+    o.assertNoErrors();
+    o.assertNotComplete();
+  }
+
   @Test
   public void unbound_shouldStillPassValues() {
     PublishSubject<Integer> s = PublishSubject.create();
@@ -233,6 +284,110 @@ public class AutoDisposeObserverTest extends PluginsMatrixTest {
                 && throwable.getCause() instanceof OutsideScopeException);
   }
 
+  @Test
+  public void autoDispose_lambdaSubscribe_throwingOnNextDisposesAndErrors() {
+    PublishSubject<Integer> source = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    List<Object> events = new ArrayList<>();
+    RuntimeException error = new RuntimeException("Bad onNext");
+    Disposable d =
+        source
+            .to(autoDisposable(scope))
+            .subscribe(
+                v -> {
+                  if (v == 2) {
+                    throw error;
+                  }
+                  events.add(v);
+                },
+                events::add,
+                () -> events.add("complete"));
+    if (hideProxies) {
+      assertThat(d).isInstanceOf(AutoDisposingLambdaObserver.class);
+    }
+
+    source.onNext(1);
+    source.onNext(2);
+    source.onNext(3);
+    assertThat(events).containsExactly(1, error).inOrder();
+    assertThat(d.isDisposed()).isTrue();
+    assertThat(source.hasObservers()).isFalse();
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void autoDispose_lambdaSubscribe_scopeEndDisposes() {
+    PublishSubject<Integer> source = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    List<Integer> values = new ArrayList<>();
+    Disposable d = source.to(autoDisposable(scope)).subscribe(values::add);
+
+    source.onNext(1);
+    scope.onComplete();
+    source.onNext(2);
+    assertThat(values).containsExactly(1);
+    if (hideProxies) {
+      // Without the hidden proxies, this is RxJava's own LambdaObserver, which only sees its
+      // upstream get disposed.
+      assertThat(d.isDisposed()).isTrue();
+    }
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void weakAutoDispose_disposesOnceDelegateIsCollected() {
+    PublishSubject<Integer> source = PublishSubject.create();
+    PublishSubject<Integer> keptSource = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    TestObserver<Integer> kept = new TestObserver<>();
+    keptSource.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(kept);
+    WeakReference<TestObserver<Integer>> collected = subscribeWeakDelegate(source, scope);
+
+    awaitCollected(collected);
+    // Noticed on the next event
+    assertThat(source.hasObservers()).isTrue();
+    source.onNext(1);
+    assertThat(source.hasObservers()).isFalse();
+
+    // A delegate that's still referenced is unaffected
+    keptSource.onNext(2);
+    kept.assertValue(2);
+    assertThat(scope.hasObservers()).isTrue();
+  }
+
+  @Test
+  public void weakAutoDispose_lambdaSubscribe_isHeldByTheReturnedDisposable() {
+    PublishSubject<Integer> source = PublishSubject.create();
+    PublishSubject<Integer> keptSource = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    List<Integer> values = new ArrayList<>();
+    Disposable kept =
+        keptSource.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(values::add);
+    WeakReference<Disposable> collected = subscribeWeakLambda(source, scope);
+
+    awaitCollected(collected);
+    source.onNext(1);
+    assertThat(source.hasObservers()).isFalse();
+
+    keptSource.onNext(2);
+    assertThat(values).containsExactly(2);
+    assertThat(kept.isDisposed()).isFalse();
+  }
+
+  private static WeakReference<TestObserver<Integer>> subscribeWeakDelegate(
+      Observable<Integer> source, CompletableSubject scope) {
+    TestObserver<Integer> o = new TestObserver<>();
+    source.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(o);
+    return new WeakReference<>(o);
+  }
+
+  /** Returns a reference to the only thing expected to hold the weakly subscribed lambda. */
+  private static WeakReference<Disposable> subscribeWeakLambda(
+      Observable<Integer> source, CompletableSubject scope) {
+    return new WeakReference<>(
+        source.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(value -> {}));
+  }
+
   @Test
   public void hideProxies() {
     ObservableSubscribeProxy proxy = Observable.never().to(autoDisposable(ScopeProvider.UNBOUND));
@@ -243,4 +398,129 @@ public class AutoDisposeObserverTest extends PluginsMatrixTest {
       assertThat(proxy).isInstanceOf(AutoDisposeObservable.class);
     }
   }
+
+  @Test
+  public void autoDispose_converterAndProxyAreReusable() {
+    PublishSubject<Integer> source1 = PublishSubject.create();
+    PublishSubject<Integer> source2 = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    AutoDisposeConverter<Integer> converter = autoDisposable(scope);
+
+    ObservableSubscribeProxy<Integer> proxy = source1.to(converter);
+    TestObserver<Integer> o1 = proxy.test();
+    TestObserver<Integer> o2 = proxy.test();
+    TestObserver<Integer> o3 = source2.to(converter).test();
+
+    source1.onNext(1);
+    source2.onNext(2);
+    o1.assertValue(1);
+    o2.assertValue(1);
+    o3.assertValue(2);
+
+    scope.onComplete();
+    assertThat(source1.hasObservers()).isFalse();
+    assertThat(source2.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void converterFor_isReusableAcrossStreams() {
+    PublishSubject<Integer> source1 = PublishSubject.create();
+    PublishSubject<Integer> source2 = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    AutoDisposeConverter<Integer> converter = AutoDispose.converterFor(() -> scope);
+
+    TestObserver<Integer> o1 = source1.to(converter).test();
+    TestObserver<Integer> o2 = source2.to(converter).test();
+    source1.onNext(1);
+    source2.onNext(2);
+    o1.assertValue(1);
+    o2.assertValue(2);
+
+    scope.onComplete();
+    assertThat(source1.hasObservers()).isFalse();
+    assertThat(source2.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void autoDispose_asyncFusion_passesThrough() throws Throwable {
+    UnicastSubject<Integer> source = UnicastSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    FusingObserver o = new FusingObserver(QueueFuseable.ANY);
+    source.to(autoDisposable(scope)).subscribe(o);
+    assertThat(o.mode).isEqualTo(QueueFuseable.ASYNC);
+
+    source.onNext(1);
+    source.onNext(2);
+    assertThat(o.signals).isEqualTo(2);
+    assertThat(o.queue.poll()).isEqualTo(1);
+
+    // Once the scope ends, nothing more can be polled.
+    scope.onComplete();
+    assertThat(o.queue.poll()).isNull();
+    assertThat(o.queue.isEmpty()).isTrue();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void autoDispose_asyncFusion_drainsAfterCompletion() throws Throwable {
+    UnicastSubject<Integer> source = UnicastSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    FusingObserver o = new FusingObserver(QueueFuseable.ANY);
+    source.to(autoDisposable(scope)).subscribe(o);
+
+    source.onNext(1);
+    source.onComplete();
+    assertThat(o.completed).isTrue();
+    assertThat(o.queue.poll()).isEqualTo(1);
+    assertThat(o.queue.poll()).isNull();
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void autoDispose_syncFusion_isRejected() {
+    FusingObserver o = new FusingObserver(QueueFuseable.SYNC);
+    Observable.range(1, 3).to(autoDisposable(ScopeProvider.UNBOUND)).subscribe(o);
+    assertThat(o.mode).isEqualTo(QueueFuseable.NONE);
+    assertThat(o.signals).isEqualTo(3);
+  }
+
+  private static Observable<Integer> countingSource(AtomicInteger subscriptions) {
+    return Observable.defer(
+        () -> {
+          subscriptions.incrementAndGet();
+          return Observable.never();
+        });
+  }
+
+  private static final class FusingObserver implements Observer<Integer> {
+    private final int requestedMode;
+    QueueDisposable<Integer> queue;
+    int mode;
+    int signals;
+    boolean completed;
+
+    FusingObserver(int requestedMode) {
+      this.requestedMode = requestedMode;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onSubscribe(Disposable d) {
+      queue = (QueueDisposable<Integer>) d;
+      mode = queue.requestFusion(requestedMode);
+    }
+
+    @Override
+    public void onNext(Integer value) {
+      signals++;
+    }
+
+    @Override
+    public void onError(Throwable e) {}
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
 }
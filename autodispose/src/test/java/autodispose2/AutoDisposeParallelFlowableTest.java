@@ -24,6 +24,7 @@ import io.reactivex.rxjava3.parallel.ParallelFlowable;
 import io.reactivex.rxjava3.processors.PublishProcessor;
 import io.reactivex.rxjava3.subjects.CompletableSubject;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.reactivestreams.Subscriber;
@@ -53,6 +54,33 @@ public class AutoDisposeParallelFlowableTest extends PluginsMatrixTest {
     subscriber.assertError(IllegalArgumentException.class);
   }
 
+  @Test
+  public void autoDispose_withCompletedScope_neverSubscribesUpstream() {
+    TestSubscriber<Integer> firstSubscriber = new TestSubscriber<>();
+    TestSubscriber<Integer> secondSubscriber = new TestSubscriber<>();
+    AtomicInteger subscriptions = new AtomicInteger();
+    Flowable<Integer> source =
+        Flowable.defer(
+            () -> {
+              subscriptions.incrementAndGet();
+              return Flowable.never();
+            });
+    CompletableSubject scope = CompletableSubject.create();
+    scope.onComplete();
+
+    //noinspection unchecked
+    Subscriber<Integer>[] subscribers = new Subscriber[] {firstSubscriber, secondSubscriber};
+    source.parallel(DEFAULT_PARALLELISM).to(autoDisposable(scope)).subscribe(subscribers);
+
+    assertThat(subscriptions.get()).isEqualTo(0);
+    assertThat(firstSubscriber.hasSubscription()).isTrue();
+    assertThat(secondSubscriber.hasSubscription()).isTrue();
+    firstSubscriber.assertNoValues();
+    firstSubscriber.assertNotComplete();
+    secondSubscriber.assertNoValues();
+    secondSubscriber.assertNotComplete();
+  }
+
   @Test
   public void autoDispose_withMaybe_normal() {
     TestSubscriber<Integer> firstSubscriber = new TestSubscriber<>();
@@ -194,6 +222,30 @@ public class AutoDisposeParallelFlowableTest extends PluginsMatrixTest {
     secondSubscriber.cancel();
   }
 
+  @Test
+  public void autoDispose_subscribesToScopeOncePerGroup() {
+    AtomicInteger scopeSubscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    TestSubscriber<Integer> firstSubscriber = new TestSubscriber<>();
+    TestSubscriber<Integer> secondSubscriber = new TestSubscriber<>();
+    //noinspection unchecked
+    Subscriber<Integer>[] subscribers = new Subscriber[] {firstSubscriber, secondSubscriber};
+
+    source
+        .parallel(DEFAULT_PARALLELISM)
+        .to(autoDisposable(scope.doOnSubscribe(d -> scopeSubscriptions.incrementAndGet())))
+        .subscribe(subscribers);
+    assertThat(scopeSubscriptions.get()).isEqualTo(1);
+
+    // The shared scope subscription is only let go once every rail is
+    firstSubscriber.cancel();
+    assertThat(scope.hasObservers()).isTrue();
+    secondSubscriber.cancel();
+    assertThat(scope.hasObservers()).isFalse();
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
   @Test
   public void hideProxies() {
     ParallelFlowableSubscribeProxy proxy =
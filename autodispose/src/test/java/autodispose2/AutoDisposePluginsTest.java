@@ -15,8 +15,26 @@
  */
 package autodispose2;
 
+import static autodispose2.AutoDispose.autoDisposable;
 import static com.google.common.truth.Truth.assertThat;
 
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.exceptions.UndeliverableException;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +45,7 @@ public final class AutoDisposePluginsTest {
   @After
   public void resetPlugins() {
     AutoDisposePlugins.reset();
+    RxJavaPlugins.reset();
   }
 
   @Test
@@ -50,4 +69,243 @@ public final class AutoDisposePluginsTest {
     OutsideScopeException started = new OutsideScopeException("Lifecycle not started");
     assertThat(started.getStackTrace()).isNotEmpty();
   }
+
+  @Test
+  public void scopeEndDisposalScheduler_batchesUpstreamDisposal() {
+    TestScheduler scheduler = new TestScheduler();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(scheduler);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> observable = PublishSubject.create();
+    PublishProcessor<Integer> flowable = PublishProcessor.create();
+    SingleSubject<Integer> single = SingleSubject.create();
+    TestObserver<Integer> o = observable.to(autoDisposable(scope)).test();
+    flowable.to(autoDisposable(scope)).test();
+    single.to(autoDisposable(scope)).test();
+
+    scope.onComplete();
+    // Downstream is cut off right away, but upstream disposal waits for the batch.
+    observable.onNext(1);
+    o.assertNoValues();
+    assertThat(observable.hasObservers()).isTrue();
+    assertThat(flowable.hasSubscribers()).isTrue();
+    assertThat(single.hasObservers()).isTrue();
+
+    scheduler.triggerActions();
+    assertThat(observable.hasObservers()).isFalse();
+    assertThat(flowable.hasSubscribers()).isFalse();
+    assertThat(single.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void scopeEndDisposalTimeBudget_reschedulesRemainder() {
+    AtomicInteger scheduled = new AtomicInteger();
+    RxJavaPlugins.setScheduleHandler(
+        run -> {
+          scheduled.incrementAndGet();
+          return run;
+        });
+    TestScheduler scheduler = new TestScheduler();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(scheduler);
+    AutoDisposePlugins.setScopeEndDisposalTimeBudget(1, TimeUnit.NANOSECONDS);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    for (int i = 0; i < 3; i++) {
+      source.to(autoDisposable(scope)).subscribe();
+    }
+
+    scope.onComplete();
+    assertThat(scheduled.get()).isEqualTo(1);
+    scheduler.triggerActions();
+    assertThat(source.hasObservers()).isFalse();
+    assertThat(scheduled.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void scopeEndDisposalTimeBudget_reschedulesOnTheCurrentScheduler() {
+    TestScheduler first = new TestScheduler();
+    TestScheduler second = new TestScheduler();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(first);
+    AutoDisposePlugins.setScopeEndDisposalTimeBudget(1, TimeUnit.NANOSECONDS);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    for (int i = 0; i < 3; i++) {
+      source.to(autoDisposable(scope)).subscribe();
+    }
+
+    scope.onComplete();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(second);
+    first.triggerActions();
+    assertThat(source.hasObservers()).isTrue();
+    second.triggerActions();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void scopeEndDisposalScheduler_clearedMidBatch_disposesTheRestInPlace() {
+    TestScheduler scheduler = new TestScheduler();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(scheduler);
+    AutoDisposePlugins.setScopeEndDisposalTimeBudget(1, TimeUnit.NANOSECONDS);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    for (int i = 0; i < 3; i++) {
+      source.to(autoDisposable(scope)).subscribe();
+    }
+
+    scope.onComplete();
+    AutoDisposePlugins.setScopeEndDisposalScheduler(null);
+    scheduler.triggerActions();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void reset_clearsScopeEndDisposal() {
+    AutoDisposePlugins.setScopeEndDisposalScheduler(new TestScheduler());
+    AutoDisposePlugins.setScopeEndDisposalTimeBudget(16, TimeUnit.MILLISECONDS);
+    assertThat(AutoDisposePlugins.getScopeEndDisposalTimeBudget(TimeUnit.MILLISECONDS))
+        .isEqualTo(16);
+
+    AutoDisposePlugins.setScopeErrorsToRxJavaPlugins(true);
+    AutoDisposePlugins.reset();
+    assertThat(AutoDisposePlugins.getScopeErrorsToRxJavaPlugins()).isFalse();
+    assertThat(AutoDisposePlugins.getScopeEndDisposalScheduler()).isNull();
+    assertThat(AutoDisposePlugins.getScopeEndDisposalTimeBudget(TimeUnit.NANOSECONDS)).isEqualTo(0);
+  }
+
+  @Test
+  public void scopeErrorsToRxJavaPlugins_disposesWithoutErroringDownstream() {
+    List<Throwable> errors = new ArrayList<>();
+    RxJavaPlugins.setErrorHandler(errors::add);
+    AutoDisposePlugins.setScopeErrorsToRxJavaPlugins(true);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> observable = PublishSubject.create();
+    PublishProcessor<Integer> flowable = PublishProcessor.create();
+    TestObserver<Integer> o = observable.to(autoDisposable(scope)).test();
+    TestSubscriber<Integer> s = flowable.to(autoDisposable(scope)).test();
+    observable.onNext(1);
+    flowable.onNext(1);
+
+    RuntimeException error = new RuntimeException("Scope failed");
+    scope.onError(error);
+    o.assertValue(1).assertNoErrors().assertNotComplete();
+    s.assertValue(1).assertNoErrors().assertNotComplete();
+    assertThat(observable.hasObservers()).isFalse();
+    assertThat(flowable.hasSubscribers()).isFalse();
+    assertThat(errors).hasSize(2);
+    for (Throwable t : errors) {
+      assertThat(t).isInstanceOf(UndeliverableException.class);
+      assertThat(t).hasCauseThat().isSameInstanceAs(error);
+    }
+  }
+
+  @Test
+  public void scopeErrorsToRxJavaPlugins_upstreamTerminalsStillDelivered() {
+    AutoDisposePlugins.setScopeErrorsToRxJavaPlugins(true);
+    CompletableSubject scope = CompletableSubject.create();
+    RuntimeException error = new RuntimeException("Upstream failed");
+
+    Observable.just(1, 2)
+        .to(autoDisposable(scope))
+        .test()
+        .assertResult(1, 2);
+    Flowable.<Integer>error(error)
+        .to(autoDisposable(scope))
+        .test()
+        .assertError(error);
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void listener_reportsSubscriptionLifecycle() {
+    RecordingListener listener = new RecordingListener();
+    AutoDisposePlugins.setListener(listener);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+
+    Disposable disposed = source.to(autoDisposable(scope)).subscribe();
+    SingleSubject<Integer> single = SingleSubject.create();
+    single.to(autoDisposable(scope)).subscribe();
+    PublishProcessor<Integer> flowable = PublishProcessor.create();
+    flowable.to(autoDisposable(scope)).subscribe();
+    assertThat(listener.events).containsExactly("subscribe", "subscribe", "subscribe");
+
+    disposed.dispose();
+    single.onSuccess(1);
+    scope.onComplete();
+    assertThat(listener.events)
+        .containsExactly(
+            "subscribe", "subscribe", "subscribe", "dispose", "upstreamTerminate", "scopeDispose")
+        .inOrder();
+  }
+
+  @Test
+  public void listener_throwingOnNextReportsDispose() {
+    RecordingListener listener = new RecordingListener();
+    AutoDisposePlugins.setListener(listener);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> observable = PublishSubject.create();
+    PublishProcessor<Integer> flowable = PublishProcessor.create();
+    List<Throwable> errors = new ArrayList<>();
+    RuntimeException error = new RuntimeException("onNext failed");
+
+    observable
+        .to(autoDisposable(scope))
+        .subscribe(
+            v -> {
+              throw error;
+            },
+            errors::add);
+    flowable
+        .to(autoDisposable(scope))
+        .subscribe(
+            v -> {
+              throw error;
+            },
+            errors::add);
+    observable.onNext(1);
+    flowable.onNext(1);
+
+    assertThat(listener.events).containsExactly("subscribe", "subscribe", "dispose", "dispose");
+    assertThat(errors).containsExactly(error, error);
+    assertThat(observable.hasObservers()).isFalse();
+    assertThat(flowable.hasSubscribers()).isFalse();
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void listener_reportsOutsideScope() {
+    RecordingListener listener = new RecordingListener();
+    AutoDisposePlugins.setListener(listener);
+
+    PublishSubject.create().to(autoDisposable(TestUtil.outsideScopeProvider())).test();
+    assertThat(listener.events).containsExactly("subscribe", "outsideScope", "scopeDispose");
+  }
+
+  private static final class RecordingListener implements AutoDisposeListener {
+    final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onSubscribe(Disposable observer, CompletableSource scope) {
+      events.add("subscribe");
+    }
+
+    @Override
+    public void onScopeDispose(Disposable observer) {
+      events.add("scopeDispose");
+    }
+
+    @Override
+    public void onUpstreamTerminate(Disposable observer) {
+      events.add("upstreamTerminate");
+    }
+
+    @Override
+    public void onDispose(Disposable observer) {
+      events.add("dispose");
+    }
+
+    @Override
+    public void onOutsideScope(OutsideScopeException e) {
+      events.add("outsideScope");
+    }
+  }
 }
@@ -16,6 +16,7 @@
 package autodispose2;
 
 import static autodispose2.AutoDispose.autoDisposable;
+import static autodispose2.TestUtil.awaitCollected;
 import static autodispose2.TestUtil.outsideScopeProvider;
 import static com.google.common.truth.Truth.assertThat;
 
@@ -24,16 +25,26 @@ import autodispose2.test.RxErrorsRule;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import io.reactivex.rxjava3.operators.QueueFuseable;
+import io.reactivex.rxjava3.operators.QueueSubscription;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.processors.UnicastProcessor;
 import io.reactivex.rxjava3.subjects.CompletableSubject;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Rule;
 import org.junit.Test;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 public class AutoDisposeSubscriberTest extends PluginsMatrixTest {
 
@@ -97,6 +108,17 @@ public class AutoDisposeSubscriberTest extends PluginsMatrixTest {
     assertThat(scope.hasObservers()).isFalse();
   }
 
+  @Test
+  public void autoDispose_withScopeError_cancelsUpstream() {
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    CompletableSubject scope = CompletableSubject.create();
+    TestSubscriber<Integer> o = source.to(autoDisposable(scope)).test();
+
+    scope.onError(new IllegalStateException("scope failed"));
+    o.assertError(IllegalStateException.class);
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
   @Test
   public void autoDispose_withProvider() {
     PublishProcessor<Integer> source = PublishProcessor.create();
@@ -250,4 +272,155 @@ public class AutoDisposeSubscriberTest extends PluginsMatrixTest {
       assertThat(proxy).isInstanceOf(AutoDisposeFlowable.class);
     }
   }
+
+  @Test
+  public void autoDispose_asyncFusion_passesThrough() throws Throwable {
+    UnicastProcessor<Integer> source = UnicastProcessor.create();
+    CompletableSubject scope = CompletableSubject.create();
+    FusingSubscriber s = new FusingSubscriber();
+    source.to(autoDisposable(scope)).subscribe(s);
+    assertThat(s.mode).isEqualTo(QueueFuseable.ASYNC);
+
+    source.onNext(1);
+    source.onNext(2);
+    assertThat(s.queue.poll()).isEqualTo(1);
+
+    // Once the scope ends, nothing more can be polled.
+    scope.onComplete();
+    assertThat(s.queue.poll()).isNull();
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
+  private static final class FusingSubscriber implements FlowableSubscriber<Integer> {
+    QueueSubscription<Integer> queue;
+    int mode;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onSubscribe(Subscription s) {
+      queue = (QueueSubscription<Integer>) s;
+      mode = queue.requestFusion(QueueFuseable.ANY);
+      s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Integer value) {}
+
+    @Override
+    public void onError(Throwable e) {}
+
+    @Override
+    public void onComplete() {}
+  }
+
+  @Test
+  public void autoDispose_conditionalDelegate_skipsReplenishingRejectedValues() {
+    CompletableSubject scope = CompletableSubject.create();
+    EvenSubscriber s = new EvenSubscriber();
+    Flowable.range(1, 10).to(autoDisposable(scope)).subscribe(s);
+
+    // Rejected odd values don't count against the two requested, so four values are offered.
+    assertThat(s.offered).isEqualTo(4);
+    assertThat(s.accepted).containsExactly(2, 4).inOrder();
+  }
+
+  @Test
+  public void autoDispose_conditionalDelegate_stopsOnScopeEnd() {
+    CompletableSubject scope = CompletableSubject.create();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    EvenSubscriber s = new EvenSubscriber();
+    source.filter(v -> v > 0).to(autoDisposable(scope)).subscribe(s);
+
+    source.onNext(2);
+    scope.onComplete();
+    source.onNext(4);
+    assertThat(s.accepted).containsExactly(2);
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
+  @Test
+  public void weakAutoDispose_cancelsOnceDelegateIsCollected() {
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    PublishProcessor<Integer> keptSource = PublishProcessor.create();
+    CompletableSubject scope = CompletableSubject.create();
+    TestSubscriber<Integer> kept = new TestSubscriber<>();
+    keptSource.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(kept);
+    WeakReference<TestSubscriber<Integer>> collected = subscribeWeakDelegate(source, scope);
+
+    awaitCollected(collected);
+    // Noticed on the next event
+    assertThat(source.hasSubscribers()).isTrue();
+    source.onNext(1);
+    assertThat(source.hasSubscribers()).isFalse();
+
+    // A delegate that's still referenced is unaffected
+    keptSource.onNext(2);
+    kept.assertValue(2);
+    assertThat(scope.hasObservers()).isTrue();
+  }
+
+  @Test
+  public void weakAutoDispose_lambdaSubscribe_isHeldByTheReturnedDisposable() {
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    PublishProcessor<Integer> keptSource = PublishProcessor.create();
+    CompletableSubject scope = CompletableSubject.create();
+    List<Integer> values = new ArrayList<>();
+    Disposable kept =
+        keptSource.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(values::add);
+    WeakReference<Disposable> collected = subscribeWeakLambda(source, scope);
+
+    awaitCollected(collected);
+    source.onNext(1);
+    assertThat(source.hasSubscribers()).isFalse();
+
+    keptSource.onNext(2);
+    assertThat(values).containsExactly(2);
+    assertThat(kept.isDisposed()).isFalse();
+  }
+
+  private static WeakReference<TestSubscriber<Integer>> subscribeWeakDelegate(
+      Flowable<Integer> source, CompletableSubject scope) {
+    TestSubscriber<Integer> s = new TestSubscriber<>();
+    source.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(s);
+    return new WeakReference<>(s);
+  }
+
+  /** Returns a reference to the only thing expected to hold the weakly subscribed lambda. */
+  private static WeakReference<Disposable> subscribeWeakLambda(
+      Flowable<Integer> source, CompletableSubject scope) {
+    return new WeakReference<>(
+        source.to(AutoDispose.<Integer>weakAutoDisposable(scope)).subscribe(value -> {}));
+  }
+
+  private static final class EvenSubscriber
+      implements FlowableSubscriber<Integer>, ConditionalSubscriber<Integer> {
+    final List<Integer> accepted = new ArrayList<>();
+    int offered;
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      s.request(2);
+    }
+
+    @Override
+    public boolean tryOnNext(Integer value) {
+      offered++;
+      if (value % 2 == 0) {
+        accepted.add(value);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void onNext(Integer value) {
+      tryOnNext(value);
+    }
+
+    @Override
+    public void onError(Throwable e) {}
+
+    @Override
+    public void onComplete() {}
+  }
 }
@@ -0,0 +1,434 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.TestUtil.awaitCollected;
+import static com.google.common.truth.Truth.assertThat;
+
+import autodispose2.observers.AutoDisposingCompletableObserver;
+import autodispose2.observers.AutoDisposingMaybeObserver;
+import autodispose2.observers.AutoDisposingObserver;
+import autodispose2.observers.AutoDisposingSingleObserver;
+import autodispose2.observers.AutoDisposingSubscriber;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.CompletableSource;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Checks that the AutoDispose observers of every type let go of their delegate, or of the
+ * callbacks of a lambda subscribe, once they're done with it, even though the upstream still
+ * references them.
+ */
+@RunWith(Parameterized.class)
+public class DelegateReleaseTest {
+
+  @Parameterized.Parameters
+  public static Collection<Object[]> data() {
+    List<Object[]> data = new ArrayList<>();
+    for (Type type : Type.values()) {
+      data.add(new Object[] {type, true});
+      data.add(new Object[] {type, false});
+    }
+    return data;
+  }
+
+  private final Type type;
+  private final boolean hideProxies;
+
+  /** What the source was subscribed with, which it keeps referencing like many operators do. */
+  private final AtomicReference<Object> upstream = new AtomicReference<>();
+
+  private final CompletableSubject scope = CompletableSubject.create();
+
+  public DelegateReleaseTest(Type type, boolean hideProxies) {
+    this.type = type;
+    this.hideProxies = hideProxies;
+  }
+
+  @Before
+  public void setUp() {
+    AutoDisposePlugins.setHideProxies(hideProxies);
+  }
+
+  @After
+  public void tearDown() {
+    AutoDisposePlugins.reset();
+    RxJavaPlugins.reset();
+  }
+
+  @Test
+  public void releasesDelegateOnDispose() {
+    WeakReference<Object> delegate = subscribeWeakly();
+
+    type.dispose(upstream.get());
+    awaitCollected(delegate);
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void releasesDelegateOnScopeEnd() {
+    WeakReference<Object> delegate = subscribeWeakly();
+
+    scope.onComplete();
+    awaitCollected(delegate);
+  }
+
+  @Test
+  public void releasesDelegateOnTerminate() {
+    WeakReference<Object> delegate = subscribeWeakly();
+
+    type.terminate(upstream.get());
+    awaitCollected(delegate);
+    assertThat(scope.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void lambdaSubscribe_releasesCallbacksOnScopeEnd() {
+    WeakReference<List<Integer>> captured = subscribeLambdaWeakly();
+
+    scope.onComplete();
+    awaitCollected(captured);
+  }
+
+  @Test
+  public void delegateAccessor_afterTerminate_returnsDelegateWhileReferenced() {
+    Object delegate = type.newDelegate();
+    type.subscribe(upstream, scope, delegate);
+
+    type.terminate(upstream.get());
+    assertThat(type.delegateOf(upstream.get())).isSameInstanceAs(delegate);
+  }
+
+  @Test
+  public void delegateAccessor_afterTerminate_returnsNoOpStandInOnceCollected() {
+    List<Throwable> errors = new ArrayList<>();
+    RxJavaPlugins.setErrorHandler(errors::add);
+    WeakReference<Object> delegate = subscribeWeakly();
+
+    type.terminate(upstream.get());
+    awaitCollected(delegate);
+    Object standIn = type.delegateOf(upstream.get());
+    assertThat(standIn).isInstanceOf(ReleasedDelegate.class);
+
+    // Anything still reaching it is dropped, except for errors, which are undeliverable
+    IllegalStateException error = new IllegalStateException();
+    ((ReleasedDelegate) standIn).onError(error);
+    assertThat(errors).containsExactly(error);
+  }
+
+  /** Subscribes in a separate frame so that no local in the test keeps the delegate reachable. */
+  private WeakReference<Object> subscribeWeakly() {
+    Object delegate = type.newDelegate();
+    type.subscribe(upstream, scope, delegate);
+    return new WeakReference<>(delegate);
+  }
+
+  /** Like {@link #subscribeWeakly}, with a callback capturing a list in place of an Activity. */
+  private WeakReference<List<Integer>> subscribeLambdaWeakly() {
+    List<Integer> values = new ArrayList<>();
+    type.subscribeLambda(upstream, scope, values);
+    return new WeakReference<>(values);
+  }
+
+  @SuppressWarnings("unchecked") // Each type only ever gets its own delegates
+  enum Type {
+    OBSERVABLE {
+      @Override
+      Object newDelegate() {
+        return new TestObserver<Integer>();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        observable(upstream)
+            .to(AutoDispose.<Integer>autoDisposable(scope))
+            .subscribe((Observer<Integer>) delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        observable(upstream).to(AutoDispose.<Integer>autoDisposable(scope)).subscribe(values::add);
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        ((Observer<Integer>) upstream).onComplete();
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return ((AutoDisposingObserver<Integer>) upstream).delegateObserver();
+      }
+    },
+    FLOWABLE {
+      @Override
+      Object newDelegate() {
+        return new TestSubscriber<Integer>();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        flowable(upstream)
+            .to(AutoDispose.<Integer>autoDisposable(scope))
+            .subscribe((Subscriber<Integer>) delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        flowable(upstream).to(AutoDispose.<Integer>autoDisposable(scope)).subscribe(values::add);
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        ((Subscriber<Integer>) upstream).onComplete();
+      }
+
+      @Override
+      void dispose(Object upstream) {
+        ((Subscription) upstream).cancel();
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return ((AutoDisposingSubscriber<Integer>) upstream).delegateSubscriber();
+      }
+    },
+    CONDITIONAL_FLOWABLE {
+      @Override
+      Object newDelegate() {
+        return new ConditionalTestSubscriber();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        FLOWABLE.subscribe(upstream, scope, delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        FLOWABLE.subscribeLambda(upstream, scope, values);
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        FLOWABLE.terminate(upstream);
+      }
+
+      @Override
+      void dispose(Object upstream) {
+        FLOWABLE.dispose(upstream);
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return FLOWABLE.delegateOf(upstream);
+      }
+    },
+    SINGLE {
+      @Override
+      Object newDelegate() {
+        return new TestObserver<Integer>();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        single(upstream)
+            .to(AutoDispose.<Integer>autoDisposable(scope))
+            .subscribe((SingleObserver<Integer>) delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        single(upstream)
+            .to(AutoDispose.<Integer>autoDisposable(scope))
+            .subscribe((Consumer<Integer>) values::add);
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        ((SingleObserver<Integer>) upstream).onSuccess(1);
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return ((AutoDisposingSingleObserver<Integer>) upstream).delegateObserver();
+      }
+    },
+    MAYBE {
+      @Override
+      Object newDelegate() {
+        return new TestObserver<Integer>();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        maybe(upstream)
+            .to(AutoDispose.<Integer>autoDisposable(scope))
+            .subscribe((MaybeObserver<Integer>) delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        maybe(upstream).to(AutoDispose.<Integer>autoDisposable(scope)).subscribe(values::add);
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        ((MaybeObserver<Integer>) upstream).onSuccess(1);
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return ((AutoDisposingMaybeObserver<Integer>) upstream).delegateObserver();
+      }
+    },
+    COMPLETABLE {
+      @Override
+      Object newDelegate() {
+        return new TestObserver<Void>();
+      }
+
+      @Override
+      void subscribe(AtomicReference<Object> upstream, CompletableSource scope, Object delegate) {
+        completable(upstream)
+            .to(AutoDispose.autoDisposable(scope))
+            .subscribe((CompletableObserver) delegate);
+      }
+
+      @Override
+      void subscribeLambda(
+          AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values) {
+        completable(upstream).to(AutoDispose.autoDisposable(scope)).subscribe(() -> values.add(1));
+      }
+
+      @Override
+      void terminate(Object upstream) {
+        ((CompletableObserver) upstream).onComplete();
+      }
+
+      @Override
+      Object delegateOf(Object upstream) {
+        return ((AutoDisposingCompletableObserver) upstream).delegateObserver();
+      }
+    };
+
+    abstract Object newDelegate();
+
+    abstract void subscribe(
+        AtomicReference<Object> upstream, CompletableSource scope, Object delegate);
+
+    abstract void subscribeLambda(
+        AtomicReference<Object> upstream, CompletableSource scope, List<Integer> values);
+
+    /** Terminates the stream from upstream. */
+    abstract void terminate(Object upstream);
+
+    /** Disposes the stream from upstream, as an operator like {@code take} would. */
+    void dispose(Object upstream) {
+      ((Disposable) upstream).dispose();
+    }
+
+    /** Returns what the AutoDispose observer's delegate accessor returns. */
+    abstract Object delegateOf(Object upstream);
+  }
+
+  private static Observable<Integer> observable(AtomicReference<Object> upstream) {
+    return Observable.unsafeCreate(
+        observer -> {
+          upstream.set(observer);
+          observer.onSubscribe(Disposable.empty());
+        });
+  }
+
+  private static Flowable<Integer> flowable(AtomicReference<Object> upstream) {
+    return Flowable.unsafeCreate(
+        subscriber -> {
+          upstream.set(subscriber);
+          subscriber.onSubscribe(
+              new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+              });
+        });
+  }
+
+  private static Single<Integer> single(AtomicReference<Object> upstream) {
+    return Single.wrap(
+        observer -> {
+          upstream.set(observer);
+          observer.onSubscribe(Disposable.empty());
+        });
+  }
+
+  private static Maybe<Integer> maybe(AtomicReference<Object> upstream) {
+    return Maybe.wrap(
+        observer -> {
+          upstream.set(observer);
+          observer.onSubscribe(Disposable.empty());
+        });
+  }
+
+  private static Completable completable(AtomicReference<Object> upstream) {
+    return Completable.wrap(
+        observer -> {
+          upstream.set(observer);
+          observer.onSubscribe(Disposable.empty());
+        });
+  }
+
+  private static final class ConditionalTestSubscriber extends TestSubscriber<Integer>
+      implements ConditionalSubscriber<Integer> {
+    @Override
+    public boolean tryOnNext(Integer value) {
+      onNext(value);
+      return true;
+    }
+  }
+}
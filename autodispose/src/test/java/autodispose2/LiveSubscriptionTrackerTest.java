@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.AutoDispose.autoDisposable;
+import static com.google.common.truth.Truth.assertThat;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Test;
+
+public final class LiveSubscriptionTrackerTest {
+
+  @After
+  public void resetPlugins() {
+    AutoDisposePlugins.reset();
+  }
+
+  @Test
+  public void tracksLiveSubscriptionsByScope() {
+    LiveSubscriptionTracker tracker = LiveSubscriptionTracker.create();
+    AutoDisposePlugins.setListener(tracker);
+    PublishSubject<Integer> source = PublishSubject.create();
+    CompletableSubject scope = CompletableSubject.create();
+    ScopeProvider provider = TestUtil.makeProvider(CompletableSubject.create());
+
+    Disposable d = source.to(autoDisposable(scope)).subscribe();
+    source.to(autoDisposable(provider)).subscribe();
+    source.to(autoDisposable(provider)).subscribe();
+    assertThat(tracker.liveCount()).isEqualTo(3);
+
+    Map<Object, List<LiveSubscriptionTracker.LiveSubscription>> snapshot = tracker.snapshot();
+    assertThat(snapshot.keySet()).containsExactly(provider, scope).inOrder();
+    assertThat(snapshot.get(provider)).hasSize(2);
+    assertThat(snapshot.get(provider).get(0).site()).isNull();
+
+    d.dispose();
+    assertThat(tracker.snapshot().keySet()).containsExactly(provider);
+
+    source.onComplete();
+    assertThat(tracker.liveCount()).isEqualTo(0);
+    assertThat(tracker.dump()).isEmpty();
+  }
+
+  @Test
+  public void scopeEnd_removesSubscriptions() {
+    LiveSubscriptionTracker tracker = LiveSubscriptionTracker.create();
+    AutoDisposePlugins.setListener(tracker);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject.create().to(autoDisposable(scope)).subscribe();
+    PublishSubject.create().to(autoDisposable(scope)).subscribe();
+    assertThat(tracker.liveCount()).isEqualTo(2);
+
+    scope.onComplete();
+    assertThat(tracker.liveCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void sitesAreSampled() {
+    LiveSubscriptionTracker tracker = LiveSubscriptionTracker.create(2);
+    AutoDisposePlugins.setListener(tracker);
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    for (int i = 0; i < 4; i++) {
+      source.to(autoDisposable(scope)).subscribe();
+    }
+
+    int sampled = 0;
+    for (LiveSubscriptionTracker.LiveSubscription subscription : tracker.snapshot().get(scope)) {
+      if (subscription.site() != null) {
+        sampled++;
+      }
+    }
+    assertThat(sampled).isEqualTo(2);
+    assertThat(tracker.dump()).contains("4 live subscription(s) in scope");
+    assertThat(tracker.dump()).contains(LiveSubscriptionTrackerTest.class.getName());
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.AutoDispose.autoDisposable;
+import static autodispose2.TestUtil.awaitCollected;
+import static com.google.common.truth.Truth.assertThat;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.exceptions.UndeliverableException;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ScopesTest {
+
+  @Test
+  public void share_subscribesToScopeOnce() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope.doOnSubscribe(d -> subscriptions.incrementAndGet()));
+
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o1 = source.to(autoDisposable(shared)).test();
+    TestObserver<Integer> o2 = source.to(autoDisposable(shared)).test();
+    TestObserver<Integer> o3 = source.to(autoDisposable(shared)).test();
+
+    assertThat(subscriptions.get()).isEqualTo(1);
+    source.onNext(1);
+    o1.assertValue(1);
+    o2.assertValue(1);
+    o3.assertValue(1);
+
+    scope.onComplete();
+    source.onNext(2);
+    o1.assertValue(1);
+    o2.assertValue(1);
+    o3.assertValue(1);
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void share_disposedSubscribersAreSkipped() {
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope);
+
+    TestObserver<Void> o1 = shared.test();
+    TestObserver<Void> o2 = shared.test();
+    o1.dispose();
+
+    scope.onComplete();
+    o1.assertNotComplete();
+    o2.assertComplete();
+  }
+
+  @Test
+  public void share_lateSubscribersGetTerminalEvent() {
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope);
+    shared.test();
+    scope.onComplete();
+
+    shared.test().assertComplete();
+  }
+
+  @Test
+  public void share_errorsAreMulticast() {
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope);
+    TestObserver<Void> o1 = shared.test();
+    TestObserver<Void> o2 = shared.test();
+
+    scope.onError(new IllegalStateException());
+    o1.assertError(IllegalStateException.class);
+    o2.assertError(IllegalStateException.class);
+    shared.test().assertError(IllegalStateException.class);
+  }
+
+  @Test
+  public void share_providerIsResolvedOnce() {
+    AtomicInteger requests = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    ScopeProvider provider =
+        Scopes.share(
+            () -> {
+              requests.incrementAndGet();
+              return scope;
+            });
+
+    PublishSubject<Integer> source = PublishSubject.create();
+    source.to(autoDisposable(provider)).test();
+    source.to(autoDisposable(provider)).test();
+    assertThat(requests.get()).isEqualTo(1);
+
+    scope.onComplete();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void share_churnKeepsLiveSubscribers() {
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope);
+    List<TestObserver<Void>> live = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      TestObserver<Void> o = shared.test();
+      if (i % 100 == 0) {
+        live.add(o);
+      } else {
+        o.dispose();
+      }
+    }
+
+    scope.onComplete();
+    for (TestObserver<Void> o : live) {
+      o.assertComplete();
+    }
+  }
+
+  @Test
+  public void share_disposesScopeOnceAllSubscribersLeave() {
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared = Scopes.share(scope);
+    TestObserver<Void> o1 = shared.test();
+    TestObserver<Void> o2 = shared.test();
+    assertThat(scope.hasObservers()).isTrue();
+
+    o1.dispose();
+    assertThat(scope.hasObservers()).isTrue();
+    o2.dispose();
+    assertThat(scope.hasObservers()).isFalse();
+
+    TestObserver<Void> o3 = shared.test();
+    assertThat(scope.hasObservers()).isTrue();
+    scope.onComplete();
+    o3.assertComplete();
+    o1.assertNotComplete();
+  }
+
+  @Test
+  public void share_churnKeepsOneScopeSubscription() {
+    AtomicInteger subscribed = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    Completable shared =
+        Scopes.share(
+            scope
+                .doOnSubscribe(d -> subscribed.incrementAndGet())
+                .doOnDispose(subscribed::decrementAndGet));
+    TestObserver<Void> anchor = shared.test();
+    for (int i = 0; i < 1_000; i++) {
+      shared.test().dispose();
+    }
+    assertThat(subscribed.get()).isEqualTo(1);
+
+    anchor.dispose();
+    assertThat(subscribed.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void scopeRegistry_compactsDisposedNodes() {
+    ScopeRegistry registry = new ScopeRegistry(() -> {});
+    ScopeRegistry.Node first = registry.add(CompletableSubject.create());
+    assertThat(first).isNotNull();
+    for (int i = 0; i < 10_000; i++) {
+      ScopeRegistry.Node node = registry.add(CompletableSubject.create());
+      assertThat(node).isNotNull();
+      node.dispose();
+    }
+
+    int linked = 0;
+    for (ScopeRegistry.Node node = registry.terminate(); node != null; node = node.next) {
+      linked++;
+    }
+    assertThat(linked).isLessThan(100);
+    assertThat(registry.isTerminated()).isTrue();
+    assertThat(registry.add(CompletableSubject.create())).isNull();
+  }
+
+  @Test
+  public void scopedScheduler_dropsPendingTasksOnScopeEnd() {
+    TestScheduler testScheduler = new TestScheduler();
+    CompletableSubject scope = CompletableSubject.create();
+    Scheduler scheduler = Scopes.scopedScheduler(testScheduler, scope);
+    AtomicInteger runs = new AtomicInteger();
+    Scheduler.Worker worker1 = scheduler.createWorker();
+    Scheduler.Worker worker2 = scheduler.createWorker();
+
+    worker1.schedule(runs::incrementAndGet);
+    testScheduler.triggerActions();
+    assertThat(runs.get()).isEqualTo(1);
+
+    worker1.schedule(runs::incrementAndGet);
+    worker2.schedule(runs::incrementAndGet, 1, TimeUnit.SECONDS);
+    scope.onComplete();
+    testScheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    assertThat(runs.get()).isEqualTo(1);
+    assertThat(worker1.isDisposed()).isTrue();
+    assertThat(worker2.isDisposed()).isTrue();
+  }
+
+  @Test
+  public void scopedScheduler_afterScopeEnd_runsNothing() {
+    TestScheduler testScheduler = new TestScheduler();
+    Scheduler scheduler = Scopes.scopedScheduler(testScheduler, Completable.complete());
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.observeOn(scheduler).test();
+
+    source.onNext(1);
+    testScheduler.triggerActions();
+    o.assertNoValues();
+    assertThat(scheduler.createWorker().isDisposed()).isTrue();
+  }
+
+  @Test
+  public void scopedScheduler_shutdownDisposesScopeAndWorkers() {
+    CompletableSubject scope = CompletableSubject.create();
+    Scheduler scheduler = Scopes.scopedScheduler(new TestScheduler(), scope);
+    Scheduler.Worker worker = scheduler.createWorker();
+    assertThat(scope.hasObservers()).isTrue();
+
+    scheduler.shutdown();
+    assertThat(scope.hasObservers()).isFalse();
+    assertThat(worker.isDisposed()).isTrue();
+    assertThat(scheduler.createWorker().isDisposed()).isTrue();
+  }
+
+  @Test
+  public void scopedScheduler_scopeErrorGoesToRxJavaPlugins() {
+    List<Throwable> errors = new ArrayList<>();
+    RxJavaPlugins.setErrorHandler(errors::add);
+    try {
+      CompletableSubject scope = CompletableSubject.create();
+      Scheduler scheduler = Scopes.scopedScheduler(new TestScheduler(), scope);
+      Scheduler.Worker worker = scheduler.createWorker();
+
+      RuntimeException error = new RuntimeException("Scope failed");
+      scope.onError(error);
+      assertThat(worker.isDisposed()).isTrue();
+      assertThat(errors).hasSize(1);
+      assertThat(errors.get(0)).isInstanceOf(UndeliverableException.class);
+      assertThat(errors.get(0)).hasCauseThat().isSameInstanceAs(error);
+    } finally {
+      RxJavaPlugins.reset();
+    }
+  }
+
+  @Test
+  public void untilCollected_endsOnceOwnerIsCollected() throws InterruptedException {
+    int owners = 200;
+    CountDownLatch disposed = new CountDownLatch(owners);
+    Observable<Integer> source = Observable.<Integer>never().doOnDispose(disposed::countDown);
+    List<WeakReference<Object>> collected = new ArrayList<>();
+    for (int i = 0; i < owners; i++) {
+      Object owner = new Object();
+      collected.add(new WeakReference<>(owner));
+      source.to(autoDisposable(Scopes.untilCollected(owner))).subscribe();
+    }
+
+    for (WeakReference<Object> owner : collected) {
+      awaitCollected(owner);
+    }
+    assertThat(disposed.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void untilCollected_reachableOwnerKeepsScope() throws InterruptedException {
+    Object owner = new Object();
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.to(autoDisposable(Scopes.untilCollected(owner))).test();
+
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    source.onNext(1);
+    o.assertValue(1);
+    assertThat(source.hasObservers()).isTrue();
+    // Keep the owner reachable up to here
+    assertThat(owner).isNotNull();
+  }
+}
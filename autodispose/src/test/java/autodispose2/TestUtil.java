@@ -16,6 +16,8 @@
 package autodispose2;
 
 import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
 
 final class TestUtil {
 
@@ -35,4 +37,15 @@ final class TestUtil {
   static ScopeProvider outsideScopeProvider() {
     return OUTSIDE_SCOPE_PROVIDER;
   }
+
+  /** Runs the GC until {@code ref} is cleared, or fails if that takes more than a few seconds. */
+  static void awaitCollected(WeakReference<?> ref) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (ref.get() != null) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Still reachable: " + ref.get());
+      }
+      System.gc();
+    }
+  }
 }
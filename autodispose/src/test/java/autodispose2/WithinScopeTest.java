@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2;
+
+import static autodispose2.TestUtil.awaitCollected;
+import static autodispose2.WithinScope.cacheWithin;
+import static autodispose2.WithinScope.shareWithin;
+import static com.google.common.truth.Truth.assertThat;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class WithinScopeTest {
+
+  @Test
+  public void cacheWithin_sharesUpstreamAndReplaysLatest() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    Observable<Integer> cached =
+        source.doOnSubscribe(d -> subscriptions.incrementAndGet()).compose(cacheWithin(scope));
+
+    TestObserver<Integer> o1 = cached.test();
+    source.onNext(1);
+    TestObserver<Integer> o2 = cached.test();
+
+    assertThat(subscriptions.get()).isEqualTo(1);
+    o1.assertValue(1);
+    o2.assertValue(1);
+  }
+
+  @Test
+  public void cacheWithin_scopeEndDisconnectsAndClears() {
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Object> source = PublishSubject.create();
+    Observable<Object> cached = source.compose(cacheWithin(scope));
+
+    // Not a TestObserver, which would keep the item in its value list
+    AtomicInteger received = new AtomicInteger();
+    AtomicInteger terminated = new AtomicInteger();
+    cached.subscribe(
+        v -> received.incrementAndGet(),
+        e -> terminated.incrementAndGet(),
+        terminated::incrementAndGet);
+    WeakReference<Object> item = emitWeakly(source);
+    assertThat(received.get()).isEqualTo(1);
+
+    scope.onComplete();
+    assertThat(terminated.get()).isEqualTo(0);
+    assertThat(source.hasObservers()).isFalse();
+    awaitCollected(item);
+  }
+
+  @Test
+  public void cacheWithin_afterScopeEnd_lateSubscribersGetNothing() {
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    Observable<Integer> cached = source.compose(cacheWithin(scope));
+    cached.test();
+    source.onNext(1);
+
+    scope.onComplete();
+    TestObserver<Integer> late = cached.test();
+    source.onNext(2);
+    late.assertEmpty();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void cacheWithin_disconnectsOnceUnobserved() {
+    CompletableSubject scope = CompletableSubject.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    Observable<Integer> cached = source.compose(cacheWithin(scope));
+
+    TestObserver<Integer> o1 = cached.test();
+    TestObserver<Integer> o2 = cached.test();
+    o1.dispose();
+    assertThat(source.hasObservers()).isTrue();
+    o2.dispose();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  @Test
+  public void shareWithin_scopeEndDisconnects() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    CompletableSubject scope = CompletableSubject.create();
+    PublishProcessor<Integer> source = PublishProcessor.create();
+    Flowable<Integer> shared =
+        source.doOnSubscribe(s -> subscriptions.incrementAndGet()).compose(shareWithin(scope));
+
+    TestSubscriber<Integer> s1 = shared.test();
+    TestSubscriber<Integer> s2 = shared.test();
+    source.onNext(1);
+    assertThat(subscriptions.get()).isEqualTo(1);
+    s1.assertValue(1);
+    s2.assertValue(1);
+
+    scope.onComplete();
+    s1.assertValue(1).assertNoErrors().assertNotComplete();
+    s2.assertValue(1).assertNoErrors().assertNotComplete();
+    assertThat(source.hasSubscribers()).isFalse();
+  }
+
+  @Test
+  public void shareWithin_provider() {
+    TestScopeProvider provider = TestScopeProvider.create();
+    PublishSubject<Integer> source = PublishSubject.create();
+    TestObserver<Integer> o = source.compose(shareWithin(provider)).test();
+
+    source.onNext(1);
+    provider.emit();
+    source.onNext(2);
+    o.assertValue(1).assertNoErrors().assertNotComplete();
+    assertThat(source.hasObservers()).isFalse();
+  }
+
+  private static WeakReference<Object> emitWeakly(PublishSubject<Object> source) {
+    Object item = new Object();
+    source.onNext(item);
+    return new WeakReference<>(item);
+  }
+}
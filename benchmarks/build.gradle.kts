@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+  `java-library`
+  alias(libs.plugins.jmh)
+}
+
+jmh {
+  jmhVersion.set(libs.versions.jmh)
+  // Always report allocations so regressions in the subscribe path show up in every run.
+  profilers.add("gc")
+  resultFormat.set("JSON")
+  failOnError.set(true)
+  providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+  // Don't run error prone/NullAway on the sources JMH generates for us.
+  options.errorprone.excludedPaths.set(".*/build/.*")
+}
+
+dependencies { jmhImplementation(project(":autodispose")) }
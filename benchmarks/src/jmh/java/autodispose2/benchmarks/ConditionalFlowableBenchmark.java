@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import static autodispose2.AutoDispose.autoDisposable;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.operators.ConditionalSubscriber;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+/**
+ * Filter-heavy {@code Flowable} chains through {@code autoDisposable(scope)} into a bounded-demand
+ * consumer that rejects half of what reaches it. With {@code conditional} the consumer is a {@link
+ * ConditionalSubscriber}, so rejected values don't need a {@code request(1)} round trip upstream.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConditionalFlowableBenchmark {
+
+  private static final int TIMES = 1000;
+
+  @Param({"true", "false"})
+  public boolean conditional;
+
+  private CompletableSubject scope;
+  private Flowable<Integer> filtered;
+  private Blackhole bh;
+
+  @Setup
+  public void setup(Blackhole bh) {
+    this.bh = bh;
+    scope = CompletableSubject.create();
+    filtered = Flowable.range(0, TIMES).filter(v -> v % 3 != 0);
+  }
+
+  private EvenConsumer consumer() {
+    return conditional ? new ConditionalEvenConsumer(bh) : new EvenConsumer(bh);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void filterBaseline() {
+    filtered.subscribe(consumer());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void filter() {
+    filtered.to(autoDisposable(scope)).subscribe(consumer());
+  }
+
+  /** Requests one at a time and only keeps even values, replenishing demand for the rest. */
+  static class EvenConsumer implements FlowableSubscriber<Integer> {
+    private final Blackhole bh;
+    @Nullable private Subscription upstream;
+
+    EvenConsumer(Blackhole bh) {
+      this.bh = bh;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      upstream = s;
+      s.request(1);
+    }
+
+    boolean accept(Integer value) {
+      if ((value & 1) == 0) {
+        bh.consume(value);
+        requestOne();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void onNext(Integer value) {
+      if (!accept(value)) {
+        requestOne();
+      }
+    }
+
+    private void requestOne() {
+      Subscription s = upstream;
+      if (s != null) {
+        s.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      bh.consume(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      bh.consume(true);
+    }
+  }
+
+  static final class ConditionalEvenConsumer extends EvenConsumer
+      implements ConditionalSubscriber<Integer> {
+
+    ConditionalEvenConsumer(Blackhole bh) {
+      super(bh);
+    }
+
+    @Override
+    public boolean tryOnNext(Integer value) {
+      return accept(value);
+    }
+  }
+}
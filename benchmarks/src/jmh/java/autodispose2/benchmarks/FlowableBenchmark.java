@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import static autodispose2.AutoDispose.autoDisposable;
+
+import autodispose2.AutoDisposePlugins;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Subscribe, onNext and dispose costs of {@code Flowable.to(autoDisposable(scope))}. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlowableBenchmark {
+
+  private static final int TIMES = 1000;
+
+  @Param({"true", "false"})
+  public boolean hideProxies;
+
+  private CompletableSubject scope;
+  private Flowable<Integer> never;
+  private Flowable<Integer> range;
+  private PerfConsumer consumer;
+  private Consumer<Object> onNext;
+
+  @Setup
+  public void setup(Blackhole bh) {
+    AutoDisposePlugins.setHideProxies(hideProxies);
+    scope = CompletableSubject.create();
+    never = Flowable.never();
+    range = Flowable.range(0, TIMES);
+    consumer = new PerfConsumer(bh);
+    onNext = bh::consume;
+  }
+
+  @TearDown
+  public void tearDown() {
+    AutoDisposePlugins.setHideProxies(true);
+  }
+
+  @Benchmark
+  public void subscribeAndDisposeBaseline() {
+    never.subscribe(consumer);
+    consumer.dispose();
+  }
+
+  @Benchmark
+  public void subscribeAndDispose() {
+    never.to(autoDisposable(scope)).subscribe(consumer);
+    consumer.dispose();
+  }
+
+  @Benchmark
+  public void subscribeAndScopeEnd() {
+    CompletableSubject scope = CompletableSubject.create();
+    never.to(autoDisposable(scope)).subscribe(consumer);
+    scope.onComplete();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void onNextBaseline() {
+    range.subscribe(consumer);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void onNext() {
+    range.to(autoDisposable(scope)).subscribe(consumer);
+  }
+
+  @Benchmark
+  public void subscribeLambdaAndDispose() {
+    never.to(autoDisposable(scope)).subscribe(onNext).dispose();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void onNextLambda() {
+    range.to(autoDisposable(scope)).subscribe(onNext);
+  }
+}
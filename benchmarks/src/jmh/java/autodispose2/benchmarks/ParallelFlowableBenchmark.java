@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import static autodispose2.AutoDispose.autoDisposable;
+
+import autodispose2.AutoDisposePlugins;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.parallel.ParallelFlowable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Subscribe, onNext and dispose costs of {@code ParallelFlowable.to(autoDisposable(scope))}. Rails
+ * are not moved to other threads, so the numbers reflect per-rail overhead only.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelFlowableBenchmark {
+
+  private static final int TIMES = 1000;
+
+  @Param({"true", "false"})
+  public boolean hideProxies;
+
+  @Param({"4", "16"})
+  public int rails;
+
+  private CompletableSubject scope;
+  private ParallelFlowable<Integer> never;
+  private ParallelFlowable<Integer> range;
+  private PerfConsumer[] consumers;
+
+  @Setup
+  public void setup(Blackhole bh) {
+    AutoDisposePlugins.setHideProxies(hideProxies);
+    scope = CompletableSubject.create();
+    never = Flowable.<Integer>never().parallel(rails);
+    range = Flowable.range(0, TIMES).parallel(rails);
+    consumers = new PerfConsumer[rails];
+    for (int i = 0; i < rails; i++) {
+      consumers[i] = new PerfConsumer(bh);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    AutoDisposePlugins.setHideProxies(true);
+  }
+
+  @Benchmark
+  public void subscribeAndCancelBaseline() {
+    never.subscribe(consumers);
+    cancelAll();
+  }
+
+  @Benchmark
+  public void subscribeAndCancel() {
+    never.to(autoDisposable(scope)).subscribe(consumers);
+    cancelAll();
+  }
+
+  @Benchmark
+  public void subscribeAndScopeEnd() {
+    CompletableSubject scope = CompletableSubject.create();
+    never.to(autoDisposable(scope)).subscribe(consumers);
+    scope.onComplete();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void onNextBaseline() {
+    range.subscribe(consumers);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void onNext() {
+    range.to(autoDisposable(scope)).subscribe(consumers);
+  }
+
+  private void cancelAll() {
+    for (PerfConsumer consumer : consumers) {
+      consumer.dispose();
+    }
+  }
+}
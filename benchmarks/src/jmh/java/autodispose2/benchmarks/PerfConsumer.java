@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import io.reactivex.rxjava3.annotations.Nullable;
+import io.reactivex.rxjava3.core.CompletableObserver;
+import io.reactivex.rxjava3.core.FlowableSubscriber;
+import io.reactivex.rxjava3.core.MaybeObserver;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+/**
+ * A consumer for every RxJava type that sinks all signals into a {@link Blackhole} and remembers the
+ * last upstream it was handed, so benchmarks can dispose it right after subscribing.
+ */
+final class PerfConsumer
+    implements FlowableSubscriber<Object>,
+        Observer<Object>,
+        SingleObserver<Object>,
+        MaybeObserver<Object>,
+        CompletableObserver {
+
+  private final Blackhole bh;
+  @Nullable private Disposable disposable;
+  @Nullable private Subscription subscription;
+
+  PerfConsumer(Blackhole bh) {
+    this.bh = bh;
+  }
+
+  /** Disposes/cancels the last upstream this consumer was subscribed to. */
+  void dispose() {
+    Disposable d = disposable;
+    if (d != null) {
+      disposable = null;
+      d.dispose();
+    }
+    Subscription s = subscription;
+    if (s != null) {
+      subscription = null;
+      s.cancel();
+    }
+  }
+
+  @Override
+  public void onSubscribe(Disposable d) {
+    disposable = d;
+  }
+
+  @Override
+  public void onSubscribe(Subscription s) {
+    subscription = s;
+    s.request(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void onNext(Object item) {
+    bh.consume(item);
+  }
+
+  @Override
+  public void onSuccess(Object item) {
+    bh.consume(item);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    bh.consume(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    bh.consume(true);
+  }
+}
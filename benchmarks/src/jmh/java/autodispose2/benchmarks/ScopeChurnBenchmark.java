@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import static autodispose2.AutoDispose.autoDisposable;
+
+import autodispose2.ScopeProvider;
+import autodispose2.Scopes;
+import autodispose2.TestScopeProvider;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Subscribe/dispose churn of many streams bound to a single long-lived scope. Each invocation
+ * subscribes {@value #SUBSCRIBERS} streams and then disposes them oldest first, comparing a plain
+ * {@link TestScopeProvider} (one scope subscription per stream) against {@link Scopes#share}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScopeChurnBenchmark {
+
+  private static final int SUBSCRIBERS = 10_000;
+
+  @Param({"false", "true"})
+  public boolean shared;
+
+  private final Disposable[] disposables = new Disposable[SUBSCRIBERS];
+  private ScopeProvider provider;
+  private Observable<Integer> never;
+
+  @Setup
+  public void setup() {
+    TestScopeProvider scope = TestScopeProvider.create();
+    provider = shared ? Scopes.share(scope) : scope;
+    never = Observable.never();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SUBSCRIBERS)
+  public void subscribeThenDispose() {
+    Disposable[] disposables = this.disposables;
+    for (int i = 0; i < SUBSCRIBERS; i++) {
+      disposables[i] = never.to(autoDisposable(provider)).subscribe();
+    }
+    for (int i = 0; i < SUBSCRIBERS; i++) {
+      disposables[i].dispose();
+      disposables[i] = null;
+    }
+  }
+}
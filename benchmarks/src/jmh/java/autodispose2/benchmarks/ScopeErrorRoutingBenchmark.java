@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026. Uber Technologies
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package autodispose2.benchmarks;
+
+import static autodispose2.AutoDispose.autoDisposable;
+
+import autodispose2.AutoDisposePlugins;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-item cost of high-rate {@code Observable} and {@code Flowable} streams, with and without
+ * {@link AutoDisposePlugins#setScopeErrorsToRxJavaPlugins(boolean)}. With it enabled, items aren't
+ * half-serialized against a racing scope error.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScopeErrorRoutingBenchmark {
+
+  private static final int TIMES = 100_000;
+
+  @Param({"true", "false"})
+  public boolean scopeErrorsToRxJavaPlugins;
+
+  private CompletableSubject scope;
+  private Observable<Integer> observable;
+  private Flowable<Integer> flowable;
+  private PerfConsumer consumer;
+
+  @Setup
+  public void setup(Blackhole bh) {
+    AutoDisposePlugins.setScopeErrorsToRxJavaPlugins(scopeErrorsToRxJavaPlugins);
+    scope = CompletableSubject.create();
+    observable = Observable.range(0, TIMES);
+    flowable = Flowable.range(0, TIMES);
+    consumer = new PerfConsumer(bh);
+  }
+
+  @TearDown
+  public void tearDown() {
+    AutoDisposePlugins.setScopeErrorsToRxJavaPlugins(false);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void observableOnNext() {
+    observable.to(autoDisposable(scope)).subscribe(consumer);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TIMES)
+  public void flowableOnNext() {
+    flowable.to(autoDisposable(scope)).subscribe(consumer);
+  }
+}
@@ -40,6 +40,7 @@ plugins {
   alias(libs.plugins.android.library) apply false
   alias(libs.plugins.android.lint) apply false
   alias(libs.plugins.errorProne) apply false
+  alias(libs.plugins.jmh) apply false
   alias(libs.plugins.nullAway) apply false
   alias(libs.plugins.dokka)
   alias(libs.plugins.animalSniffer) apply false
@@ -49,7 +50,7 @@ plugins {
   alias(libs.plugins.binaryCompatibilityValidator)
 }
 
-apiValidation { ignoredProjects += listOf("sample", "test-utils") }
+apiValidation { ignoredProjects += listOf("benchmarks", "sample", "test-utils") }
 
 val mixedSourcesArtifacts =
   setOf(
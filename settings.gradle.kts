@@ -43,7 +43,9 @@ if (System.getenv("ANDROID_HOME") != null) {
 include(
   ":autodispose",
   ":autodispose-interop:coroutines",
+  ":autodispose-jfr",
   ":autodispose-lifecycle",
+  ":benchmarks",
   ":test-utils",
   ":static-analysis:autodispose-error-prone",
   ":static-analysis:autodispose-lint",